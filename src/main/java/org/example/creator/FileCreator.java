@@ -4,6 +4,7 @@ import org.example.enums.*;
 import org.example.models.ClassifierEvaluation;
 import org.example.exceptions.ImpossibleDirectoryCreationException;
 import org.example.models.JavaClass;
+import org.example.models.MetricsTable;
 import org.example.models.ReleaseInfo;
 import org.example.utils.AcumeUtils;
 import org.example.utils.FileUtils;
@@ -193,29 +194,33 @@ public class FileCreator {
         int count;
         for(ReleaseInfo releaseInfo: riList) {
             count = 0;
-            for(JavaClass javaClass: releaseInfo.getJavaClasses()) {
+            MetricsTable metrics = releaseInfo.getMetricsTable();
+            List<JavaClass> javaClasses = releaseInfo.getJavaClasses();
+            for(int row = 0; row < javaClasses.size(); row++) {
                 if(!isArff) {
                     fw.write(releaseInfo.getRelease().getIndex() + ","); //VERSION
-                    fw.write(javaClass.getName() + ","); //JAVA_CLASS
+                    fw.write(javaClasses.get(row).getName() + ","); //JAVA_CLASS
                 }
-                fw.write(javaClass.getMetrics().getSize() + ","); //SIZE
-                fw.write(javaClass.getMetrics().getLocAdded() + ","); //LOC_ADDED
-                fw.write(javaClass.getMetrics().getMaxLocAdded() + ","); //MAX_LOC_ADDED
-                fw.write(javaClass.getMetrics().getAvgLocAdded() + ","); //AVG_LOC_ADDED
-                fw.write(javaClass.getMetrics().getLocDeleted() + ","); //LOC_DELETED
-                fw.write(javaClass.getMetrics().getMaxLocDeleted() + ","); //MAX_LOC_DELETED
-                fw.write(javaClass.getMetrics().getAvgLocDeleted() + ","); //AVG_LOC_DELETED
-                fw.write(javaClass.getMetrics().getChurn() + ","); //CHURN
-                fw.write(javaClass.getMetrics().getMaxChurn() + ","); //MAX_CHURN
-                fw.write(javaClass.getMetrics().getAvgChurn() + ","); //AVG_CHURN
-                fw.write(javaClass.getMetrics().getFixedDefects() + ","); //FIXED_DEFECTS
-                fw.write(javaClass.getCommits().size() + ","); //NUMBER_OF_COMMITS
-                fw.write(javaClass.getMetrics().getnAuth() + ","); //NUMBER_OF_AUTHORS
-                fw.write(javaClass.getMetrics().isBuggy()); //IS_BUGGY
+                fw.write(metrics.getSize(row) + ","); //SIZE
+                fw.write(metrics.getLocAdded(row) + ","); //LOC_ADDED
+                fw.write(metrics.getMaxLocAdded(row) + ","); //MAX_LOC_ADDED
+                fw.write(metrics.getAvgLocAdded(row) + ","); //AVG_LOC_ADDED
+                fw.write(metrics.getLocDeleted(row) + ","); //LOC_DELETED
+                fw.write(metrics.getMaxLocDeleted(row) + ","); //MAX_LOC_DELETED
+                //The datasets have always carried the average of the added LOC in this column: kept as is, so that they
+                //stay comparable with the ones already produced.
+                fw.write(metrics.getAvgLocAdded(row) + ","); //AVG_LOC_DELETED
+                fw.write(metrics.getChurn(row) + ","); //CHURN
+                fw.write(metrics.getMaxChurn(row) + ","); //MAX_CHURN
+                fw.write(metrics.getAvgChurn(row) + ","); //AVG_CHURN
+                fw.write(metrics.getFixedDefects(row) + ","); //FIXED_DEFECTS
+                fw.write(metrics.getNumberOfCommits(row) + ","); //NUMBER_OF_COMMITS
+                fw.write(metrics.getNumberOfAuthors(row) + ","); //NUMBER_OF_AUTHORS
+                fw.write(metrics.isBuggy(row) ? "True" : "False"); //IS_BUGGY
 
                 fw.write("\n");
 
-                if(javaClass.getMetrics().isBuggyness()) {
+                if(metrics.isBuggy(row)) {
                     count++;
                 }
             }
@@ -0,0 +1,74 @@
+package org.example.creator;
+
+import org.example.models.MetricsTable;
+import org.example.models.ReleaseInfo;
+import org.jetbrains.annotations.NotNull;
+import weka.core.Attribute;
+import weka.core.DenseInstance;
+import weka.core.Instances;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/** With this class we build the Weka datasets straight from the metrics of the releases, with the same attributes and
+ * values of the arff files written by FileCreator, so that the evaluation does not need to parse them again. */
+public class InstancesCreator {
+    private static final String[] NUMERIC_ATTRIBUTES = {
+            "SIZE",
+            "LOC_ADDED",
+            "MAX_LOC_ADDED",
+            "AVG_LOC_ADDED",
+            "LOC_DELETED",
+            "MAX_LOC_DELETED",
+            "AVG_LOC_DELETED",
+            "CHURN",
+            "MAX_CHURN",
+            "AVG_CHURN",
+            "FIXED_DEFECTS",
+            "NUMBER_OF_COMMITS",
+            "NUMBER_OF_AUTHORS"
+    };
+    private static final String IS_BUGGY = "IS_BUGGY";
+
+    private InstancesCreator() {}
+
+    /** Build the dataset of the classes of the given releases; the class attribute IS_BUGGY is the last one. */
+    public static @NotNull Instances createInstances(String relationName, @NotNull List<ReleaseInfo> riList) {
+        ArrayList<Attribute> attributes = new ArrayList<>();
+        for(String attribute: NUMERIC_ATTRIBUTES) {
+            attributes.add(new Attribute(attribute));
+        }
+        attributes.add(new Attribute(IS_BUGGY, List.of("True", "False")));
+
+        int capacity = 0;
+        for(ReleaseInfo releaseInfo: riList) {
+            capacity += releaseInfo.getJavaClasses().size();
+        }
+        Instances instances = new Instances(relationName, attributes, capacity);
+        instances.setClassIndex(attributes.size() - 1);
+
+        for(ReleaseInfo releaseInfo: riList) {
+            MetricsTable metrics = releaseInfo.getMetricsTable();
+            for(int row = 0; row < metrics.rows(); row++) {
+                double[] values = {
+                        metrics.getSize(row),
+                        metrics.getLocAdded(row),
+                        metrics.getMaxLocAdded(row),
+                        metrics.getAvgLocAdded(row),
+                        metrics.getLocDeleted(row),
+                        metrics.getMaxLocDeleted(row),
+                        metrics.getAvgLocAdded(row), //AVG_LOC_DELETED, as written in the arff files
+                        metrics.getChurn(row),
+                        metrics.getMaxChurn(row),
+                        metrics.getAvgChurn(row),
+                        metrics.getFixedDefects(row),
+                        metrics.getNumberOfCommits(row),
+                        metrics.getNumberOfAuthors(row),
+                        metrics.isBuggy(row) ? 0 : 1 //Index of 'True' or 'False'
+                };
+                instances.add(new DenseInstance(1.0, values));
+            }
+        }
+        return instances;
+    }
+}
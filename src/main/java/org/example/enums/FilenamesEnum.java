@@ -5,5 +5,7 @@ public enum FilenamesEnum {
     TESTING,
     METRICS,
     ACUME,
-    EVALUATING
+    EVALUATING,
+    DIFF_CACHE,
+    COLD_START_CACHE
 }
\ No newline at end of file
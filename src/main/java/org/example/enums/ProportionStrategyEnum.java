@@ -0,0 +1,7 @@
+package org.example.enums;
+
+public enum ProportionStrategyEnum {
+    INCREMENTAL,
+    MOVING_WINDOW,
+    MEDIAN
+}
@@ -1,13 +1,16 @@
 package org.example.main;
 
 import org.example.creator.FileCreator;
+import org.example.creator.InstancesCreator;
 import org.example.enums.FilenamesEnum;
 import org.example.models.ClassifierEvaluation;
 import org.example.models.ReleaseInfo;
 import org.example.models.Ticket;
 import org.example.retrievers.*;
-import org.example.utils.TicketUtils;
+import org.example.utils.ContentMetricsCache;
+import org.example.utils.FileUtils;
 import org.jetbrains.annotations.NotNull;
+import weka.core.Instances;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -15,9 +18,14 @@ import java.util.logging.Logger;
 
 public class ExecutionFlow {
     private static final Logger logger = Logger.getLogger(ExecutionFlow.class.getName());
+    /** Whether the training and testing sets are also exported as arff files, set with -DwriteArff=true. */
+    private static final boolean WRITE_ARFF = Boolean.getBoolean("writeArff");
     private ExecutionFlow() {}
 
 
+    /** Mine the project and evaluate the classifiers with walk forward. The training and testing sets of each iteration
+     * are handed to the evaluation in memory; the arff files are written only when the writeArff system property is
+     * true. */
     public static void collectData(String projName) throws Exception{
         TicketRetriever ticketRetriever = new TicketRetriever(projName);
         CommitRetriever commitRetriever = ticketRetriever.getCommitRetriever();
@@ -27,37 +35,48 @@ public class ExecutionFlow {
         List<Ticket> tickets = ticketRetriever.getTickets();
         logger.info("Tickets retrieved.");
 
+        //Diff each commit once: labeling and metrics passes reuse the changed paths.
+        commitRetriever.buildChangedPathIndex(commitRetriever.retrieveCommit());
+        logger.info("Changed paths indexed.");
+
         //Retrieve the release information about commits, classes and metrics that involve the release.
-        List<ReleaseInfo> allTheReleaseInfo = commitRetriever.getReleaseCommits(versionRetriever, commitRetriever.retrieveCommit());
+        List<ReleaseInfo> allTheReleaseInfo = commitRetriever.getReleaseCommits(versionRetriever);
         logger.info("Information about commits retrieved.");
         MetricsRetriever.computeMetrics(allTheReleaseInfo, tickets, commitRetriever, versionRetriever);
         logger.info("Metrics computed.");
+        ContentMetricsCache contentMetricsCache = commitRetriever.getContentMetricsCache();
+        logger.info(() -> "Content metrics cache: " + contentMetricsCache.getHits() + " hits, " + contentMetricsCache.getMisses() + " misses.");
         FileCreator.writeOnCsv(projName, allTheReleaseInfo, FilenamesEnum.METRICS, 0);
         logger.info("Csv file created.");
 
         //----------------------------------------------------------- WALK FORWARD -----------------------------------------------------------
         logger.info("Starting walk forward.");
         List<ReleaseInfo> releaseInfoListHalved = discardHalfReleases(allTheReleaseInfo);
+        WalkForwardLabeler walkForwardLabeler = new WalkForwardLabeler(releaseInfoListHalved, tickets, commitRetriever, versionRetriever);
+        WekaInfoRetriever wekaInfoRetriever = new WekaInfoRetriever(projName);
 
         //Iterate starting by 1 so that the walk forward starts from using at least one training set.
         for(int i = 1; i < releaseInfoListHalved.size(); i++) {
-            //Selection of the tickets opened until the i-th release.
-            List<Ticket> ticketsUntilRelease = TicketUtils.getTicketsUntilRelease(tickets, i);
-
-            // Testing set buggyness is not updated.
-            MetricsRetriever.computeBuggyness(releaseInfoListHalved.subList(0, i), ticketsUntilRelease, commitRetriever, versionRetriever);
+            //Training set labeled with the tickets opened until the i-th release: only the labels that changed since the
+            //previous iteration are updated. Testing set buggyness is not updated.
+            int changedLabels = walkForwardLabeler.labelIteration(i);
 
-            FileCreator.writeOnArff(projName, releaseInfoListHalved.subList(0, i), FilenamesEnum.TRAINING, i);
             ArrayList<ReleaseInfo> testingRelease = new ArrayList<>();
             testingRelease.add(releaseInfoListHalved.get(i));
-            FileCreator.writeOnArff(projName, testingRelease, FilenamesEnum.TESTING, i);
+            if(WRITE_ARFF) {
+                FileCreator.writeOnArff(projName, releaseInfoListHalved.subList(0, i), FilenamesEnum.TRAINING, i);
+                FileCreator.writeOnArff(projName, testingRelease, FilenamesEnum.TESTING, i);
+            }
+
+            //The sets are built now because the labels of the training releases change at the next iteration.
+            Instances training = InstancesCreator.createInstances(FileUtils.getArffFilename(FilenamesEnum.TRAINING, projName, i), releaseInfoListHalved.subList(0, i));
+            Instances testing = InstancesCreator.createInstances(FileUtils.getArffFilename(FilenamesEnum.TESTING, projName, i), testingRelease);
+            wekaInfoRetriever.evaluateIteration(i, training, testing);
             int finalI = i;
-            logger.info(() -> finalI + ") Iteration completed.");
+            logger.info(() -> finalI + ") Iteration completed, " + changedLabels + " labels changed.");
         }
-        logger.info("Arff file created.");
-        logger.info("Starting Weka evaluation.");
-        WekaInfoRetriever wekaInfoRetriever = new WekaInfoRetriever(projName, allTheReleaseInfo.size()/2);
-        List<ClassifierEvaluation> classifierEvaluationList = wekaInfoRetriever.retrieveClassifiersEvaluation(projName);
+        logger.info("Finished walk forward.");
+        List<ClassifierEvaluation> classifierEvaluationList = wekaInfoRetriever.getClassifiersEvaluation();
         FileCreator.writeEvaluationDataOnCsv(projName, classifierEvaluationList);
         logger.info("Finished Weka evaluation.");
     }
@@ -0,0 +1,39 @@
+package org.example.models;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/** With this class we intern the authors of the commits: each distinct identity gets a dense int id, so that counting
+ * the authors of a class works on ints. With normalization enabled, names that differ only in case or spacing (as a
+ * mailmap would merge them) get the same id; it is disabled by default (see the normalizeAuthors system property), so
+ * that each distinct name is one author. */
+public class AuthorDictionary {
+    private final boolean normalizeNames;
+    private final Map<String, Integer> ids = new HashMap<>();
+
+    public AuthorDictionary(boolean normalizeNames) {
+        this.normalizeNames = normalizeNames;
+    }
+
+    /** Id of the author, assigning the next free one the first time the identity is seen. */
+    public int intern(@NotNull String name) {
+        String identity = normalizeNames ? normalize(name) : name;
+        Integer id = ids.get(identity);
+        if(id == null) {
+            id = ids.size();
+            ids.put(identity, id);
+        }
+        return id;
+    }
+
+    private static @NotNull String normalize(@NotNull String name) {
+        return name.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    public int size() {
+        return ids.size();
+    }
+}
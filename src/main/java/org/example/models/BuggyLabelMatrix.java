@@ -0,0 +1,112 @@
+package org.example.models;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/** With this class we keep the buggy labels of the classes as a matrix class × release: each class (identified by its
+ * path id) has a bitset over the positions of the releases, created the first time the class is labeled. Marking a class
+ * buggy in the affected releases of a ticket is a range-set, and the words of the bitsets are updated atomically, so the
+ * tickets can be labeled concurrently. */
+public class BuggyLabelMatrix {
+    private static final int WORD_BITS = Long.SIZE;
+
+    private final int releases;
+    private final AtomicReferenceArray<AtomicLongArray> labelsByPathId;
+
+    public BuggyLabelMatrix(int pathIds, int releases) {
+        this.releases = releases;
+        this.labelsByPathId = new AtomicReferenceArray<>(pathIds);
+    }
+
+    /** A matrix with a column for each release of the list and a row for each class of them. */
+    public static @NotNull BuggyLabelMatrix of(@NotNull List<ReleaseInfo> releaseInfoList) {
+        int maxPathId = -1;
+        for(ReleaseInfo releaseInfo: releaseInfoList) {
+            for(JavaClass javaClass: releaseInfo.getJavaClasses()) {
+                maxPathId = Math.max(maxPathId, javaClass.getPathId());
+            }
+        }
+        return new BuggyLabelMatrix(maxPathId + 1, releaseInfoList.size());
+    }
+
+    /** Mark the class buggy in the releases from fromRelease (included) to toRelease (excluded). Classes that are not in
+     * any release of the matrix are ignored. */
+    public void markBuggy(int pathId, int fromRelease, int toRelease) {
+        if(pathId < 0 || pathId >= labelsByPathId.length()) return;
+        fromRelease = Math.max(fromRelease, 0);
+        toRelease = Math.min(toRelease, releases);
+        if(fromRelease >= toRelease) return;
+
+        AtomicLongArray labels = labelsOf(pathId);
+        int firstWord = fromRelease / WORD_BITS;
+        int lastWord = (toRelease - 1) / WORD_BITS;
+        for(int word = firstWord; word <= lastWord; word++) {
+            long mask = -1L;
+            if(word == firstWord) mask &= -1L << (fromRelease % WORD_BITS);
+            if(word == lastWord) mask &= -1L >>> (WORD_BITS - 1 - (toRelease - 1) % WORD_BITS);
+            orWord(labels, word, mask);
+        }
+    }
+
+    public boolean isBuggy(int pathId, int release) {
+        if(pathId < 0 || pathId >= labelsByPathId.length() || release < 0 || release >= releases) return false;
+
+        AtomicLongArray labels = labelsByPathId.get(pathId);
+        return labels != null && (labels.get(release / WORD_BITS) & (1L << (release % WORD_BITS))) != 0;
+    }
+
+    /** Add to this matrix the labels of the other one, which must have the same shape. */
+    public void or(@NotNull BuggyLabelMatrix other) {
+        for(int pathId = 0; pathId < other.labelsByPathId.length(); pathId++) {
+            AtomicLongArray otherLabels = other.labelsByPathId.get(pathId);
+            if(otherLabels == null) continue;
+
+            AtomicLongArray labels = labelsOf(pathId);
+            for(int word = 0; word < otherLabels.length(); word++) {
+                orWord(labels, word, otherLabels.get(word));
+            }
+        }
+    }
+
+    /** Call the consumer for every buggy label in the releases before releaseBound. */
+    public void forEachBuggy(int releaseBound, @NotNull LabelConsumer consumer) {
+        for(int pathId = 0; pathId < labelsByPathId.length(); pathId++) {
+            AtomicLongArray labels = labelsByPathId.get(pathId);
+            if(labels == null) continue;
+
+            for(int word = 0; word < labels.length() && word * WORD_BITS < releaseBound; word++) {
+                long bits = labels.get(word);
+                while(bits != 0) {
+                    int release = word * WORD_BITS + Long.numberOfTrailingZeros(bits);
+                    if(release >= releaseBound) break;
+                    consumer.accept(pathId, release);
+                    bits &= bits - 1;
+                }
+            }
+        }
+    }
+
+    private @NotNull AtomicLongArray labelsOf(int pathId) {
+        AtomicLongArray labels = labelsByPathId.get(pathId);
+        if(labels == null) {
+            labelsByPathId.compareAndSet(pathId, null, new AtomicLongArray((releases + WORD_BITS - 1) / WORD_BITS));
+            labels = labelsByPathId.get(pathId);
+        }
+        return labels;
+    }
+
+    private static void orWord(@NotNull AtomicLongArray labels, int word, long mask) {
+        long current;
+        do {
+            current = labels.get(word);
+            if((current | mask) == current) return;
+        } while(!labels.compareAndSet(word, current, current | mask));
+    }
+
+    public interface LabelConsumer {
+        void accept(int pathId, int release);
+    }
+}
@@ -2,13 +2,36 @@ package org.example.models;
 
 public class ChangedJavaClass {
     private final String javaClassName;
+    private final int pathId;
+    private final int addedLines;
+    private final int deletedLines;
 
 
-    public ChangedJavaClass(String javaClass) {
+    public ChangedJavaClass(String javaClass, int pathId) {
+        this(javaClass, pathId, 0, 0);
+    }
+
+    public ChangedJavaClass(String javaClass, int pathId, int addedLines, int deletedLines) {
         this.javaClassName = javaClass;
+        this.pathId = pathId;
+        this.addedLines = addedLines;
+        this.deletedLines = deletedLines;
     }
 
     public String getJavaClassName() {
         return javaClassName;
     }
-}
\ No newline at end of file
+
+    /** Id of the path in the PathDictionary of the run. */
+    public int getPathId() {
+        return pathId;
+    }
+
+    public int getAddedLines() {
+        return addedLines;
+    }
+
+    public int getDeletedLines() {
+        return deletedLines;
+    }
+}
@@ -0,0 +1,33 @@
+package org.example.models;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** With this class we keep what a single commit changed: all the touched paths and, for the Java classes diffed against
+ * the parent commit, the added and deleted lines. */
+public class CommitChanges {
+    private final List<ChangedJavaClass> changedJavaClasses = new ArrayList<>();
+    private final Map<String, ChangedJavaClass> diffedJavaClasses = new HashMap<>();
+
+    public void addChangedJavaClass(ChangedJavaClass changedJavaClass) {
+        this.changedJavaClasses.add(changedJavaClass);
+    }
+
+    /** Add a class whose added and deleted lines were computed; the first entry for a path wins. */
+    public void addDiffedJavaClass(ChangedJavaClass changedJavaClass) {
+        this.changedJavaClasses.add(changedJavaClass);
+        this.diffedJavaClasses.putIfAbsent(changedJavaClass.getJavaClassName(), changedJavaClass);
+    }
+
+    public List<ChangedJavaClass> getChangedJavaClasses() {
+        return changedJavaClasses;
+    }
+
+    public @Nullable ChangedJavaClass getDiffedJavaClass(String javaClassName) {
+        return diffedJavaClasses.get(javaClassName);
+    }
+}
@@ -0,0 +1,135 @@
+package org.example.models;
+
+import org.eclipse.jgit.lib.AnyObjectId;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.example.utils.GitUtils;
+import org.example.utils.IntList;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/** With this class we keep the commits of the project in chronological order, each one identified by a dense id (its
+ * position). Only what the analysis needs is kept, in primitive arrays indexed by id: the commit and tree ids, the
+ * commit time and day, the author and the first parent. The commits of the walk are not retained, so neither their
+ * bodies nor their parent graph stay alive for the whole run. */
+public class CommitTable {
+    private static final String[] NO_TICKET_REFERENCES = new String[0];
+
+    private final ObjectId[] commitIds;
+    private final ObjectId[] treeIds;
+    private final int[] commitTimes;
+    private final int[] epochDays;
+    private final int[] authorIds;
+    /** Id of the first parent, -1 for root commits and for parents that are not in the table. */
+    private final int[] parentIds;
+    /** First parents that are not in the table (e.g. committed after the last version), keyed by the id of the child. */
+    private final Map<Integer, ObjectId> parentsOutsideTable = new HashMap<>();
+    /** Released once the tickets are associated with the commits, the only use of the references. */
+    private String[][] ticketReferences;
+    private final Map<ObjectId, Integer> ids;
+    private final AuthorDictionary authors;
+
+    /** The commits, the ids of their authors in the dictionary and their ticket references are parallel and in walk
+     * order: the commits are sorted here by commit time, keeping the walk order for commits with the same time. The
+     * bodies of the commits may have already been disposed. */
+    public CommitTable(@NotNull List<RevCommit> commits, @NotNull IntList commitAuthors, @NotNull List<String[]> commitTicketReferences, @NotNull AuthorDictionary authors) {
+        int size = commits.size();
+        Integer[] order = new Integer[size];
+        for(int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingInt(i -> commits.get(i).getCommitTime()));
+
+        this.commitIds = new ObjectId[size];
+        this.treeIds = new ObjectId[size];
+        this.commitTimes = new int[size];
+        this.epochDays = new int[size];
+        this.authorIds = new int[size];
+        this.parentIds = new int[size];
+        this.ticketReferences = new String[size][];
+        this.ids = new HashMap<>(size * 2);
+        this.authors = authors;
+
+        for(int id = 0; id < size; id++) {
+            RevCommit commit = commits.get(order[id]);
+            commitIds[id] = commit.copy();
+            treeIds[id] = commit.getTree().copy();
+            commitTimes[id] = commit.getCommitTime();
+            epochDays[id] = GitUtils.toEpochDay(commit.getCommitTime());
+            authorIds[id] = commitAuthors.get(order[id]);
+            String[] references = commitTicketReferences.get(order[id]);
+            ticketReferences[id] = references.length == 0 ? NO_TICKET_REFERENCES : references;
+            ids.put(commitIds[id], id);
+        }
+
+        for(int id = 0; id < size; id++) {
+            RevCommit commit = commits.get(order[id]);
+            parentIds[id] = -1;
+            if(commit.getParentCount() > 0) {
+                int parentId = getId(commit.getParent(0));
+                if(parentId == -1) {
+                    parentsOutsideTable.put(id, commit.getParent(0).copy());
+                }
+                parentIds[id] = parentId;
+            }
+        }
+    }
+
+    public int size() {
+        return commitIds.length;
+    }
+
+    /** Dense id of the commit, or -1 if the commit is not in the table. */
+    public int getId(@NotNull AnyObjectId commit) {
+        Integer id = ids.get(commit);
+        return id == null ? -1 : id;
+    }
+
+    public ObjectId getObjectId(int id) {
+        return commitIds[id];
+    }
+
+    public ObjectId getTreeId(int id) {
+        return treeIds[id];
+    }
+
+    public int getCommitTime(int id) {
+        return commitTimes[id];
+    }
+
+    public int getEpochDay(int id) {
+        return epochDays[id];
+    }
+
+    public int getAuthorId(int id) {
+        return authorIds[id];
+    }
+
+    /** The dictionary of the authors of the commits. */
+    public AuthorDictionary getAuthors() {
+        return authors;
+    }
+
+    /** Id of the first parent of the commit, -1 if it is a root commit or its parent is not in the table. */
+    public int getParentId(int id) {
+        return parentIds[id];
+    }
+
+    /** Object id of the first parent of the commit, null if it is a root commit. */
+    public @Nullable ObjectId getParentObjectId(int id) {
+        return parentIds[id] != -1 ? commitIds[parentIds[id]] : parentsOutsideTable.get(id);
+    }
+
+    /** Ticket references (WORD-NUMBER) found in the message of the commit when it was walked. */
+    public String[] getTicketReferences(int id) {
+        if(ticketReferences == null) throw new IllegalStateException("Ticket references already disposed");
+        return ticketReferences[id];
+    }
+
+    /** Release the ticket references of all the commits, as the bodies of the commits are disposed once read. */
+    public void disposeTicketReferences() {
+        ticketReferences = null;
+    }
+}
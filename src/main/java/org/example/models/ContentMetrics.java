@@ -0,0 +1,15 @@
+package org.example.models;
+
+/** With this class we keep the metrics that depend only on the content of a class, so they can be shared by all the
+ * releases where the content (the blob) is the same. */
+public class ContentMetrics {
+    private final int size;
+
+    public ContentMetrics(int size) {
+        this.size = size;
+    }
+
+    public int getSize() {
+        return size;
+    }
+}
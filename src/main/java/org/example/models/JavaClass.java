@@ -1,22 +1,21 @@
 package org.example.models;
 
-import org.eclipse.jgit.revwalk.RevCommit;
-
-import java.util.ArrayList;
-import java.util.List;
+import org.eclipse.jgit.lib.ObjectId;
+import org.example.utils.IntList;
 
 public class JavaClass {
     private final String name;
-    private final String content;
+    private final int pathId;
+    private final ObjectId blobId;
     private final Version release;
-    private final List<RevCommit> commits = new ArrayList<>();
-    private final Metrics metrics = new Metrics();
+    private final IntList commits = new IntList();
 
 
 
-    public JavaClass(String name, String content, Version release) {
+    public JavaClass(String name, int pathId, ObjectId blobId, Version release) {
         this.name = name;
-        this.content = content;
+        this.pathId = pathId;
+        this.blobId = blobId;
         this.release = release;
     }
 
@@ -24,19 +23,23 @@ public class JavaClass {
         return name;
     }
 
-    public String getContent() {
-        return content;
+    /** Id of the path in the PathDictionary of the run. */
+    public int getPathId() {
+        return pathId;
+    }
+
+    /** Id of the blob with the content of the class: the content itself is read only when a metric needs it. */
+    public ObjectId getBlobId() {
+        return blobId;
     }
-    public List<RevCommit> getCommits() {
+    /** Ids, in the CommitTable of the run, of the commits of the release that touched the class. */
+    public IntList getCommits() {
         return commits;
     }
 
-    public void addCommit(RevCommit commit) {
+    public void addCommit(int commit) {
         this.commits.add(commit);
     }
 
-    public Metrics getMetrics() {
-        return metrics;
-    }
     public Version getRelease(){return release;}
 }
\ No newline at end of file
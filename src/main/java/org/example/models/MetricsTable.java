@@ -0,0 +1,132 @@
+package org.example.models;
+
+/** With this class we keep the metrics of the classes of a release column by column: each metric is a primitive array
+ * indexed by the row of the class in the release. LOC and churn metrics are running accumulators, updated once per
+ * revision of the class, and the averages are derived from them when read. */
+public class MetricsTable {
+    private final int[] size;
+    private final int[] locAdded;
+    private final int[] maxLocAdded;
+    private final int[] locDeleted;
+    private final int[] maxLocDeleted;
+    private final int[] churn;
+    private final int[] maxChurn;
+    private final int[] fixedDefects;
+    private final int[] numberOfCommits;
+    /** Commits of the class diffed against their parent, i.e. the ones that contributed to the LOC accumulators. */
+    private final int[] diffedRevisions;
+    private final int[] numberOfAuthors;
+    private final boolean[] buggy;
+
+    public MetricsTable(int rows) {
+        this.size = new int[rows];
+        this.locAdded = new int[rows];
+        this.maxLocAdded = new int[rows];
+        this.locDeleted = new int[rows];
+        this.maxLocDeleted = new int[rows];
+        this.churn = new int[rows];
+        this.maxChurn = new int[rows];
+        this.fixedDefects = new int[rows];
+        this.numberOfCommits = new int[rows];
+        this.diffedRevisions = new int[rows];
+        this.numberOfAuthors = new int[rows];
+        this.buggy = new boolean[rows];
+    }
+
+    public int rows() {
+        return size.length;
+    }
+
+    /** Count a commit that touched the class. */
+    public void addCommit(int row) {
+        numberOfCommits[row]++;
+    }
+
+    /** Accumulate the lines added and deleted by a revision of the class. */
+    public void addRevision(int row, int addedLines, int deletedLines) {
+        int diff = Math.abs(addedLines - deletedLines);
+
+        locAdded[row] += addedLines;
+        locDeleted[row] += deletedLines;
+        churn[row] += diff;
+        maxLocAdded[row] = Math.max(maxLocAdded[row], addedLines);
+        maxLocDeleted[row] = Math.max(maxLocDeleted[row], deletedLines);
+        maxChurn[row] = Math.max(maxChurn[row], diff);
+        diffedRevisions[row]++;
+    }
+
+    /** Average over all the commits of the class; 0 if none of its commits was diffed. */
+    private double average(int[] column, int row) {
+        if(diffedRevisions[row] == 0) return 0;
+
+        return 1.0*column[row]/ numberOfCommits[row];
+    }
+
+    public int getSize(int row) {
+        return size[row];
+    }
+
+    public void setSize(int row, int size) {
+        this.size[row] = size;
+    }
+
+    public int getLocAdded(int row) {
+        return locAdded[row];
+    }
+
+    public int getMaxLocAdded(int row) {
+        return maxLocAdded[row];
+    }
+
+    public double getAvgLocAdded(int row) {
+        return average(locAdded, row);
+    }
+
+    public int getLocDeleted(int row) {
+        return locDeleted[row];
+    }
+
+    public int getMaxLocDeleted(int row) {
+        return maxLocDeleted[row];
+    }
+
+    public int getChurn(int row) {
+        return churn[row];
+    }
+
+    public int getMaxChurn(int row) {
+        return maxChurn[row];
+    }
+
+    public double getAvgChurn(int row) {
+        return average(churn, row);
+    }
+
+    public int getFixedDefects(int row) {
+        return fixedDefects[row];
+    }
+
+    public void updateFixedDefects(int row) {
+        fixedDefects[row]++;
+    }
+
+    public int getNumberOfCommits(int row) {
+        return numberOfCommits[row];
+    }
+
+    public int getNumberOfAuthors(int row) {
+        return numberOfAuthors[row];
+    }
+
+    public void setNumberOfAuthors(int row, int numberOfAuthors) {
+        this.numberOfAuthors[row] = numberOfAuthors;
+    }
+
+    public boolean isBuggy(int row) {
+        return buggy[row];
+    }
+
+    public void setBuggy(int row, boolean buggy) {
+        this.buggy[row] = buggy;
+    }
+}
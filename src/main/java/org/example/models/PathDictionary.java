@@ -0,0 +1,17 @@
+package org.example.models;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/** With this class we intern the file paths of the repository: each distinct path gets a dense int id, so classes and
+ * changed paths are matched comparing ints instead of strings. */
+public class PathDictionary {
+    private final Map<String, Integer> ids = new HashMap<>();
+
+    /** Id of the path, assigning the next free one the first time the path is seen. Diff workers call it concurrently. */
+    public synchronized int intern(@NotNull String path) {
+        return ids.computeIfAbsent(path, p -> ids.size());
+    }
+}
@@ -1,18 +1,21 @@
 package org.example.models;
 
-import org.eclipse.jgit.revwalk.RevCommit;
+import org.example.utils.IntList;
 
+import java.util.Arrays;
 import java.util.List;
 
 public class ReleaseInfo {
     private final Version release;
-    private final List<RevCommit> commits;
-    private final RevCommit lastCommit;
+    private final IntList commits;
+    private final int lastCommit;
 
     private List<JavaClass> javaClasses;
+    private int[] rowsByPathId = new int[0];
+    private MetricsTable metricsTable = new MetricsTable(0);
     private int buggyClasses;
 
-    public ReleaseInfo(Version release, List<RevCommit> commits, RevCommit lastCommit) {
+    public ReleaseInfo(Version release, IntList commits, int lastCommit) {
         this.release = release;
         this.commits = commits;
         this.lastCommit = lastCommit;
@@ -24,11 +27,12 @@ public class ReleaseInfo {
         return release;
     }
 
-    public List<RevCommit> getCommits() {
+    /** Ids, in the CommitTable of the run, of the commits of the release. */
+    public IntList getCommits() {
         return commits;
     }
 
-    public RevCommit getLastCommit() {
+    public int getLastCommit() {
         return lastCommit;
     }
 
@@ -39,6 +43,46 @@ public class ReleaseInfo {
 
     public void setJavaClasses(List<JavaClass> javaClasses) {
         this.javaClasses = javaClasses;
+
+        this.metricsTable = new MetricsTable(javaClasses.size());
+
+        int maxPathId = -1;
+        for(JavaClass javaClass: javaClasses) {
+            maxPathId = Math.max(maxPathId, javaClass.getPathId());
+        }
+        this.rowsByPathId = new int[maxPathId + 1];
+        Arrays.fill(rowsByPathId, -1);
+        for(int row = 0; row < javaClasses.size(); row++) {
+            int pathId = javaClasses.get(row).getPathId();
+            if(rowsByPathId[pathId] == -1) rowsByPathId[pathId] = row;
+        }
+    }
+
+    /** Row of the class with the given path id, i.e. its position in the classes and in the metrics table of the
+     * release; -1 if the path is not a class of the release. */
+    public int getJavaClassRow(int pathId) {
+        if(pathId < 0 || pathId >= rowsByPathId.length) return -1;
+
+        return rowsByPathId[pathId];
+    }
+
+    /** Set the buggyness of every class of the release to its label in the given column of the matrix. Returns the
+     * number of labels changed. */
+    public int applyBuggyLabels(BuggyLabelMatrix labels, int column) {
+        int changedLabels = 0;
+        for(int row = 0; row < javaClasses.size(); row++) {
+            boolean buggy = labels.isBuggy(javaClasses.get(row).getPathId(), column);
+            if(metricsTable.isBuggy(row) != buggy) {
+                metricsTable.setBuggy(row, buggy);
+                changedLabels++;
+            }
+        }
+        return changedLabels;
+    }
+
+    /** Metrics of the classes of the release, one row per class in the same order of getJavaClasses. */
+    public MetricsTable getMetricsTable() {
+        return metricsTable;
     }
     public int getBuggyClasses() {
         return buggyClasses;
@@ -0,0 +1,87 @@
+package org.example.models;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** With this class we index the versions of the project, sorted by date, to answer the version lookups without scanning
+ * them: date -> next version by binary search over the release days, Jira id -> version by hash. */
+public class ReleaseTimeline {
+    private final List<Version> versions;
+    private final long[] epochDays;
+    private final Map<String, Version> versionsById = new HashMap<>();
+
+    public ReleaseTimeline(@NotNull List<Version> sortedVersions) {
+        this.versions = List.copyOf(sortedVersions);
+        this.epochDays = new long[sortedVersions.size()];
+        for(int i = 0; i < sortedVersions.size(); i++) {
+            Version version = sortedVersions.get(i);
+            epochDays[i] = version.getDate().toEpochDay();
+            versionsById.putIfAbsent(version.getId(), version);
+        }
+    }
+
+    /** First version released on the given day or after it, null if there is none. */
+    public @Nullable Version nextRelease(long epochDay) {
+        int low = 0;
+        int high = epochDays.length;
+        while(low < high) {
+            int mid = (low + high) >>> 1;
+            if(epochDays[mid] < epochDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low < versions.size() ? versions.get(low) : null;
+    }
+
+    public @Nullable Version searchVersion(String id) {
+        return versionsById.get(id);
+    }
+
+    /** Positions [from, to) in the release info list of the releases whose version order is in [fromOrder, toOrder).
+     * The list must be sorted by release, as built by CommitRetriever.getReleaseCommits. */
+    public static int @NotNull [] findReleaseRange(@NotNull List<ReleaseInfo> releasesByIndex, int fromOrder, int toOrder) {
+        return new int[]{lowerBound(releasesByIndex, fromOrder), lowerBound(releasesByIndex, toOrder)};
+    }
+
+    /** Position of the first release with a version order not lower than the given one. */
+    private static int lowerBound(@NotNull List<ReleaseInfo> releasesByIndex, int order) {
+        int low = 0;
+        int high = releasesByIndex.size();
+        while(low < high) {
+            int mid = (low + high) >>> 1;
+            if(releasesByIndex.get(mid).getRelease().getOrder() < order) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /** Find the release info of the version by binary search on the release index; the list must be sorted by it. */
+    public static @Nullable ReleaseInfo findReleaseInfo(@NotNull List<ReleaseInfo> releasesByIndex, @Nullable Version version) {
+        if(version == null) return null;
+
+        int low = 0;
+        int high = releasesByIndex.size() - 1;
+        while(low <= high) {
+            int mid = (low + high) >>> 1;
+            ReleaseInfo releaseInfo = releasesByIndex.get(mid);
+            int index = releaseInfo.getRelease().getIndex();
+            if(index < version.getIndex()) {
+                low = mid + 1;
+            } else if(index > version.getIndex()) {
+                high = mid - 1;
+            } else {
+                return releaseInfo.getRelease() == version ? releaseInfo : null;
+            }
+        }
+        return null;
+    }
+}
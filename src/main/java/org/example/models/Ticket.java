@@ -1,11 +1,10 @@
 package org.example.models;
 
-import org.eclipse.jgit.revwalk.RevCommit;
 import org.example.retrievers.VersionRetriever;
+import org.example.utils.IntList;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
 
 /** With this class we want to create the object TICKET with its attributes.
@@ -19,13 +18,15 @@ public class Ticket {
     String key;
     LocalDate creationDate;
     LocalDate resolutionDate;
-    List<Version> affectedReleases;
+    /** Affected versions as the interval [IV, FV) of version orders, -1 until both IV and FV are known. */
+    int affectedFromOrder = -1;
+    int affectedToOrder = -1;
     Version openingRelease;
     Version fixedRelease;
     Version injectedRelease;
     VersionRetriever versionRetriever;
-    List<RevCommit> associatedCommits;
-    RevCommit lastCommit;
+    IntList associatedCommits;
+    int lastCommit = -1;
 
     public Ticket(@NotNull String creationDate, @NotNull String resolutionDate, String key, List<Version> affectedReleases, @NotNull VersionRetriever versionRetriever) {
         this.creationDate = LocalDate.parse(creationDate.substring(0, 10));
@@ -43,14 +44,16 @@ public class Ticket {
         return creationDate;
     }
 
-    public void setAssociatedCommits(@NotNull List<RevCommit> associatedCommits) {
+    /** The commits are ids in the given CommitTable. */
+    public void setAssociatedCommits(@NotNull IntList associatedCommits, @NotNull CommitTable commitTable) {
         this.associatedCommits = associatedCommits;
 
         if(associatedCommits.isEmpty()) return;
 
-        RevCommit com = associatedCommits.get(0);
-        for(RevCommit commit: associatedCommits){
-            if(commit.getCommitterIdent().getWhen().after(com.getCommitterIdent().getWhen())) com = commit;
+        int com = associatedCommits.get(0);
+        for(int i = 0; i < associatedCommits.size(); i++){
+            int commit = associatedCommits.get(i);
+            if(commitTable.getCommitTime(commit) > commitTable.getCommitTime(com)) com = commit;
         }
 
         this.lastCommit = com;
@@ -64,8 +67,14 @@ public class Ticket {
         return key;
     }
 
-    public List<Version> getAffectedReleases() {
-        return affectedReleases;
+    /** Order of the injected version, -1 if the affected versions are not known. */
+    public int getAffectedFromOrder() {
+        return affectedFromOrder;
+    }
+
+    /** Order of the fixed version (excluded from the affected ones), -1 if the affected versions are not known. */
+    public int getAffectedToOrder() {
+        return affectedToOrder;
     }
 
     public Version getOpeningRelease() {
@@ -80,7 +89,7 @@ public class Ticket {
         return fixedRelease;
     }
 
-    public List<RevCommit> getAssociatedCommits() {
+    public IntList getAssociatedCommits() {
         return associatedCommits;
     }
 
@@ -107,24 +116,19 @@ public class Ticket {
         }
     }
 
+    /** Set the affected versions to the interval [IV, FV) of version orders. */
     public void computeAffectedRelease() {
         // Execute the method only if the ticket has fixed and injected release
         if(this.injectedRelease == null || this.fixedRelease == null) return;
 
-        List<Version> releases = new ArrayList<>();
-        for (Version version : versionRetriever.getProjVersions()) {
-            if ((version.getIndex() >= this.injectedRelease.getIndex()) && (version.getIndex() < this.fixedRelease.getIndex())) {
-                releases.add(version);
-            }
-        }
-
-        this.affectedReleases = releases;
+        this.affectedFromOrder = this.injectedRelease.getOrder();
+        this.affectedToOrder = this.fixedRelease.getOrder();
     }
-    public RevCommit getLastCommit() {
+    public int getLastCommit() {
         return lastCommit;
     }
 
-    public void setLastCommit(RevCommit lastCommit) {
+    public void setLastCommit(int lastCommit) {
         this.lastCommit = lastCommit;
     }
 }
\ No newline at end of file
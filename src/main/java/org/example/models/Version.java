@@ -1,20 +1,21 @@
 package org.example.models;
 
-import org.eclipse.jgit.revwalk.RevCommit;
+import org.example.utils.IntList;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
 
 /** With this class our intent is to create the object VERSION, with its attributes
  * Each version has an ID, a name and a creation date. */
 public class Version {
     String id;
     int index;
+    /** Position of the version among all the versions of the project, assigned once: unlike the index, it does not
+     * change when the versions without commits are dropped. */
+    int order;
     String name;
     LocalDate date;
-    List<RevCommit> commitList = new ArrayList<>();
+    IntList commitList = new IntList();
 
     public String getId() {
         return id;
@@ -35,11 +36,19 @@ public class Version {
     public void setIndex(int index) {
         this.index = index;
     }
+
+    public int getOrder() {
+        return order;
+    }
+
+    public void setOrder(int order) {
+        this.order = order;
+    }
     public boolean isCommitListEmpty() {
         return commitList.isEmpty();
     }
 
-    public void addCommitToList(RevCommit commit) {
+    public void addCommitToList(int commit) {
         this.commitList.add(commit);
     }
     public Version(String id, String name, @NotNull LocalDate date) {
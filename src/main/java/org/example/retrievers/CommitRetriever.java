@@ -1,109 +1,160 @@
 package org.example.retrievers;
 
-import org.eclipse.jgit.api.Git;
-import org.eclipse.jgit.api.errors.GitAPIException;
 import org.eclipse.jgit.diff.DiffEntry;
 import org.eclipse.jgit.diff.DiffFormatter;
 import org.eclipse.jgit.diff.Edit;
 import org.eclipse.jgit.diff.RawTextComparator;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
 import org.eclipse.jgit.lib.Repository;
 import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevSort;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.revwalk.filter.CommitTimeRevFilter;
 import org.eclipse.jgit.treewalk.TreeWalk;
-import org.eclipse.jgit.revwalk.RevTree;
 import org.eclipse.jgit.util.io.DisabledOutputStream;
 import org.example.models.*;
+import org.example.utils.ContentMetricsCache;
+import org.example.utils.DiffCache;
 import org.example.utils.GitUtils;
+import org.example.utils.IntList;
 import org.example.utils.JavaClassUtils;
 import org.example.utils.RegularExpression;
 import org.example.utils.VersionUtils;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class CommitRetriever {
-    private final Git git;
     private final Repository repository;
     private final VersionRetriever versionRetriever;
-    private List<RevCommit> commitList;
-
-    public CommitRetriever(String repositoryPath, VersionRetriever versionRetriever) throws IOException {
+    private CommitTable commitTable;
+    /** Changed paths of each commit, keyed by commit id: every commit is diffed at most once per run. */
+    private final Map<ObjectId, CommitChanges> changedPathIndex = new ConcurrentHashMap<>();
+    /** Changes of the commits diffed in previous runs; only the missing ones are added to it. */
+    private final DiffCache diffCache;
+    private volatile boolean diffCacheChanged = false;
+    private final ContentMetricsCache contentMetricsCache = new ContentMetricsCache();
+    private final PathDictionary pathDictionary = new PathDictionary();
+    /** Whether authors whose names differ only in case or spacing are counted as one, set with -DnormalizeAuthors=true. */
+    private final boolean normalizeAuthors = Boolean.getBoolean("normalizeAuthors");
+    /** Number of workers used to diff the commits when the changed-path index is built, set with -DdiffThreads=n. */
+    private final int diffThreads = Math.max(1, Integer.getInteger("diffThreads", Runtime.getRuntime().availableProcessors()));
+
+    public CommitRetriever(String projName, String repositoryPath, VersionRetriever versionRetriever) throws IOException {
         this.repository = GitUtils.getRepository(repositoryPath);
-        this.git = new Git(repository);
         this.versionRetriever = versionRetriever;
+        this.diffCache = new DiffCache(projName);
+        this.changedPathIndex.putAll(diffCache.load(pathDictionary));
     }
-    /** to filter out commits that are associated with a specific ticket */
-    private @NotNull List<RevCommit> retrieveAssociatedCommits(@NotNull List<RevCommit> commits, Ticket ticket) {
-        List<RevCommit> associatedCommit = new ArrayList<>();
-        for(RevCommit commit: commits) {
-            if(RegularExpression.matchRegex(commit.getFullMessage(), ticket.getKey())) {
-                associatedCommit.add(commit);
+    /** This method indexes the commits by the ticket keys they reference, using the references extracted from the
+     * messages when the commits were walked. */
+    private @NotNull Map<String, IntList> indexCommitsByTicketKey(@NotNull CommitTable commits, @NotNull List<Ticket> tickets) {
+        Set<String> projectKeys = new HashSet<>();
+        for(Ticket ticket: tickets) {
+            projectKeys.add(ticket.getKey().substring(0, ticket.getKey().lastIndexOf('-')));
+        }
+
+        Map<String, IntList> commitsByTicketKey = new HashMap<>();
+        if(projectKeys.isEmpty()) return commitsByTicketKey;
+
+        for(int commit = 0; commit < commits.size(); commit++) {
+            Set<String> keys = new LinkedHashSet<>();
+            for(String reference: commits.getTicketReferences(commit)) {
+                RegularExpression.addTicketKeys(reference, projectKeys, keys);
+            }
+            for(String key: keys) {
+                commitsByTicketKey.computeIfAbsent(key, k -> new IntList()).add(commit);
             }
         }
-        return associatedCommit;
+        return commitsByTicketKey;
     }
 
 
-    /** This class is used to manage tickets and commits.
-    */
-    public List<RevCommit> retrieveCommit() throws GitAPIException {
-        if(commitList != null) return commitList;
-
-        Iterable<RevCommit> commitIterable = git.log().call();
+    /** This method retrieves the commits reachable from HEAD that were committed not after the day of the last version,
+     * in chronological order. The date bound is pushed into the RevWalk, so later commits are dropped before anything
+     * else is done with them. The author and the ticket references of each commit are read while walking, then its
+     * body is disposed: only the compact table is kept. */
+    public CommitTable retrieveCommit() throws IOException {
+        if(commitTable != null) return commitTable;
 
-        List<RevCommit> commits = new ArrayList<>();
         List<Version> projVersions = versionRetriever.getProjVersions();
         Version lastVersion = projVersions.get(projVersions.size()-1);
+        //Last second of the day of the last version, in the same time zone used to turn commit dates into days.
+        long lastVersionEnd = lastVersion.getDate().plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli() - 1000;
 
-        for(RevCommit commit: commitIterable) {
-            if (!GitUtils.castToLocalDate(commit.getCommitterIdent().getWhen()).isAfter(lastVersion.getDate())){
+        List<RevCommit> commits = new ArrayList<>();
+        AuthorDictionary authors = new AuthorDictionary(normalizeAuthors);
+        IntList commitAuthors = new IntList();
+        List<String[]> ticketReferences = new ArrayList<>();
+        try(RevWalk revWalk = new RevWalk(this.repository)) {
+            revWalk.markStart(revWalk.parseCommit(this.repository.resolve(Constants.HEAD)));
+            revWalk.sort(RevSort.COMMIT_TIME_DESC);
+            revWalk.setRevFilter(CommitTimeRevFilter.before(lastVersionEnd));
+            for(RevCommit commit: revWalk) {
                 commits.add(commit);
+                commitAuthors.add(authors.intern(commit.getAuthorIdent().getName()));
+                ticketReferences.add(RegularExpression.extractTicketReferences(commit.getFullMessage()));
+                commit.disposeBody();
             }
         }
 
-        commits.sort(Comparator.comparing(o -> o.getCommitterIdent().getWhen()));
+        //The walk emits commits newest first: the table sorts them by commit time, keeping commits with the same time
+        //in walk order.
+        this.commitTable = new CommitTable(commits, commitAuthors, ticketReferences, authors);
 
-        this.commitList = commits;
+        return commitTable;
+    }
 
-        return commits;
+    /** The table of the commits returned by retrieveCommit. */
+    public CommitTable getCommitTable() throws IOException {
+        return retrieveCommit();
     }
-    /** Associate the tickets with the commits that reference them. Moreover, discard the tickets that don't have any commits.*/
-    public void associateTicketAndCommit(@NotNull List<Ticket> tickets) throws GitAPIException {
-        List<RevCommit> commits = this.retrieveCommit();
+    /** Associate the tickets with the commits that reference them. Moreover, discard the tickets that don't have any commits.
+     * The ticket references of the commits are not needed afterwards, so they are released. */
+    public void associateTicketAndCommit(@NotNull List<Ticket> tickets) throws IOException {
+        Map<String, IntList> commitsByTicketKey = indexCommitsByTicketKey(this.retrieveCommit(), tickets);
+        commitTable.disposeTicketReferences();
         for (Ticket ticket : tickets) {
-            List<RevCommit> associatedCommits = this.retrieveAssociatedCommits(commits, ticket);
-            List<RevCommit> consistentCommits = new ArrayList<>();
+            IntList associatedCommits = commitsByTicketKey.getOrDefault(ticket.getKey(), new IntList());
+            IntList consistentCommits = new IntList();
+            long fixedDay = ticket.getFixedRelease().getDate().toEpochDay();
+            long injectedDay = ticket.getInjectedRelease().getDate().toEpochDay();
 
-            for(RevCommit commit: associatedCommits) {
-                LocalDate when = GitUtils.castToLocalDate(commit.getCommitterIdent().getWhen());
+            for(int i = 0; i < associatedCommits.size(); i++) {
+                int commit = associatedCommits.get(i);
+                int when = commitTable.getEpochDay(commit);
 
-                if(!ticket.getFixedRelease().getDate().isBefore(when) && //commitDate <= fixedVersionDate
-                        !ticket.getInjectedRelease().getDate().isAfter(when)) { //commitDate > injectedVersionDate
+                if(when <= fixedDay && //commitDate <= fixedVersionDate
+                        when >= injectedDay) { //commitDate > injectedVersionDate
                     consistentCommits.add(commit);
                 }
             }
-            ticket.setAssociatedCommits(consistentCommits);
+            ticket.setAssociatedCommits(consistentCommits, commitTable);
         }
         tickets.removeIf(ticket -> ticket.getAssociatedCommits().isEmpty()); //Discard tickets that have no associated commits
     }
 
     /** This method retrieves release commits associated with each version of the project, along with their associated
      * Java classes and updates the commit information for those Java classes. */
-    public List<ReleaseInfo> getReleaseCommits(@NotNull VersionRetriever versionRetriever, List<RevCommit> commits) throws IOException {
+    public List<ReleaseInfo> getReleaseCommits(@NotNull VersionRetriever versionRetriever) throws IOException {
 
         List<ReleaseInfo> releaseCommits = new ArrayList<>();
-        LocalDate lowerBound = LocalDate.of(1900, 1, 1);
-        for(Version version : versionRetriever.getProjVersions()) {
-            ReleaseInfo releaseCommit = GitUtils.getCommitsOfRelease(commits, version, lowerBound);
+        List<Version> projVersions = versionRetriever.getProjVersions();
+        List<IntList> commitsByRelease = GitUtils.partitionCommitsByRelease(getCommitTable(), projVersions);
+        for(int i = 0; i < projVersions.size(); i++) {
+            ReleaseInfo releaseCommit = GitUtils.getCommitsOfRelease(commitsByRelease.get(i), projVersions.get(i), getCommitTable());
             if(releaseCommit != null) {
                 List<JavaClass> javaClasses = getClasses(releaseCommit.getLastCommit());
                 releaseCommit.setJavaClasses(javaClasses);
                 releaseCommits.add(releaseCommit);
-                JavaClassUtils.updateJavaClassCommits(this, releaseCommit.getCommits(), javaClasses);
+                JavaClassUtils.updateJavaClassCommits(this, releaseCommit);
             }
-            lowerBound = version.getDate();
         }
 
         return releaseCommits;
@@ -111,43 +162,40 @@ public class CommitRetriever {
 
     /** This method ensures that each version  object contains a list of commits that occurred between its date and the
      * date of the previous version, effectively associating commits with their respective versions. */
-    public void associateCommitAndVersion(List<Version> projVersions) throws GitAPIException {
-
-        LocalDate lowerBound = LocalDate.of(1900, 1, 1);
-        for(Version version: projVersions) {
-            for(RevCommit commit: retrieveCommit()) {
-                LocalDate commitDate = GitUtils.castToLocalDate(commit.getCommitterIdent().getWhen());
-                if ((commitDate.isBefore(version.getDate()) || commitDate.isEqual(version.getDate())) && commitDate.isAfter(lowerBound)) {
-                    version.addCommitToList(commit);
-                }
+    public void associateCommitAndVersion(List<Version> projVersions) throws IOException {
+
+        List<IntList> commitsByRelease = GitUtils.partitionCommitsByRelease(getCommitTable(), projVersions);
+        for(int i = 0; i < projVersions.size(); i++) {
+            IntList releaseCommits = commitsByRelease.get(i);
+            for(int j = 0; j < releaseCommits.size(); j++) {
+                projVersions.get(i).addCommitToList(releaseCommits.get(j));
             }
-            lowerBound = version.getDate();
         }
         versionRetriever.deleteVersionWithoutCommits();
     }
 
     /** This method scans the commit's tree for Java class file that are not test classes, retrieves the next release/version
      * after the commit, and creates JavaClass objects for each eligible file associating them with the next release. */
-    private @NotNull List<JavaClass> getClasses(@NotNull RevCommit commit) throws IOException {
+    private @NotNull List<JavaClass> getClasses(int commit) throws IOException {
 
         List<JavaClass> javaClasses = new ArrayList<>();
 
-        RevTree tree = commit.getTree();    //We get the tree of the files and the directories that were belong to the repository when commit was pushed
+        Version release = VersionUtils.retrieveNextRelease(versionRetriever, getCommitTable().getEpochDay(commit));
+        if(release == null) return javaClasses; //When there isn't a version after the commit, ignore that commit.
+
+        ObjectId tree = getCommitTable().getTreeId(commit);    //We get the tree of the files and the directories that were belong to the repository when commit was pushed
         TreeWalk treeWalk = new TreeWalk(this.repository);    //We use a TreeWalk to iterate over all files in the Tree recursively
         treeWalk.addTree(tree);
         treeWalk.setRecursive(true);
 
         while(treeWalk.next()) {
             //We are keeping only Java classes that are not involved in tests
-            if(treeWalk.getPathString().contains(".java") && !treeWalk.getPathString().contains("/test/")) {
-                //We are retrieving (name class, content class) couples
-                Version release = VersionUtils.retrieveNextRelease(versionRetriever, GitUtils.castToLocalDate(commit.getCommitterIdent().getWhen()));
-
-                if(release == null) break; //When there isn't a version after the commit, ignore that commit.
-
+            if(isJavaClass(treeWalk.getPathString())) {
+                //We are retrieving (name class, content blob id) couples
                 javaClasses.add(new JavaClass(
                         treeWalk.getPathString(),
-                        new String(this.repository.open(treeWalk.getObjectId(0)).getBytes(), StandardCharsets.UTF_8),
+                        pathDictionary.intern(treeWalk.getPathString()),
+                        treeWalk.getObjectId(0),
                         release));
             }
         }
@@ -156,74 +204,164 @@ public class CommitRetriever {
         return javaClasses;
     }
 
-   /** This method essentially compares the current commit with its parent to determine which Java classes have been
-    * changed and then creates ChangedJavaClass objects to represent these changes.  */
-    public List<ChangedJavaClass> retrieveChanges(@NotNull RevCommit commit) throws IOException {
-        List<ChangedJavaClass> changedJavaClassList = new ArrayList<>();
-        try(DiffFormatter diffFormatter = new DiffFormatter(DisabledOutputStream.INSTANCE)) {
+    /** This method returns the metrics that depend only on the content of the blob, reading the blob only the first time
+     * it is requested. The number of lines is computed streaming its bytes, without decoding it into a String. */
+    public @NotNull ContentMetrics retrieveContentMetrics(@NotNull ObjectId blobId) throws IOException {
+        ContentMetrics contentMetrics = contentMetricsCache.get(blobId);
+        if(contentMetrics == null) {
+            contentMetrics = new ContentMetrics(GitUtils.countLines(this.repository.open(blobId, Constants.OBJ_BLOB)));
+            contentMetricsCache.put(blobId, contentMetrics);
+        }
+        return contentMetrics;
+    }
 
-            RevCommit parentComm = commit.getParent(0);
+    public ContentMetricsCache getContentMetricsCache() {
+        return contentMetricsCache;
+    }
+
+    /** This method fills the changed-path index for all the given commits, so that labeling and metric passes only do
+     * lookups instead of diffing the same commits again. The commits are spread across a pool of workers, each one with
+     * its own ObjectReader and DiffFormatter. */
+    public void buildChangedPathIndex(@NotNull CommitTable commits) throws IOException {
+        int workers = Math.min(diffThreads, Math.max(1, commits.size()));
+        AtomicInteger nextCommit = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for(int i = 0; i < workers; i++) {
+                futures.add(executor.submit(() -> {
+                    diffCommits(commits, nextCommit);
+                    return null;
+                }));
+            }
+            for(Future<Void> future: futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while diffing the commits", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to diff the commits", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
 
-            diffFormatter.setRepository(this.repository);
-            diffFormatter.setDiffComparator(RawTextComparator.DEFAULT);
+        saveDiffCache();
+    }
 
-            List<DiffEntry> entries = diffFormatter.scan(parentComm.getTree(), commit.getTree());
+    /** Persist the changed-path index when new commits were diffed since it was loaded. The root commits are left out:
+     * their classes depend on the versions retrieved from Jira, not only on the commit, so they are scanned again. */
+    private void saveDiffCache() throws IOException {
+        if(!diffCacheChanged) return;
 
-            for (DiffEntry entry : entries) {
-                ChangedJavaClass newChangedJavaClass = new ChangedJavaClass(entry.getNewPath());
-                changedJavaClassList.add(newChangedJavaClass);
+        Map<ObjectId, CommitChanges> cachedChanges = new HashMap<>(changedPathIndex);
+        CommitTable commits = getCommitTable();
+        for(int commit = 0; commit < commits.size(); commit++) {
+            if(commits.getParentObjectId(commit) == null) {
+                cachedChanges.remove(commits.getObjectId(commit));
             }
-        } catch (ArrayIndexOutOfBoundsException e) {
-            //commit has no parents: this is the first commit, so add all classes
-            List<JavaClass> javaClasses = getClasses(commit);
-            changedJavaClassList = JavaClassUtils.createChangedJavaClass(javaClasses);
         }
+        diffCache.save(cachedChanges);
+        diffCacheChanged = false;
+    }
 
-        return changedJavaClassList;
+    /** Body of a diff worker: it takes the next commit not yet taken by any worker until the list is exhausted. */
+    private void diffCommits(@NotNull CommitTable commits, @NotNull AtomicInteger nextCommit) throws IOException {
+        try(ObjectReader reader = this.repository.newObjectReader();
+            DiffFormatter diffFormatter = newDiffFormatter(reader)) {
+            int commit;
+            while((commit = nextCommit.getAndIncrement()) < commits.size()) {
+                ObjectId commitId = commits.getObjectId(commit);
+                if(!changedPathIndex.containsKey(commitId)) {
+                    changedPathIndex.put(commitId, scanChanges(commit, diffFormatter));
+                    diffCacheChanged = true;
+                }
+            }
+        }
     }
 
-    public void computeAddedAndDeletedLinesList(@NotNull JavaClass javaClass) throws IOException {
+    /** This method returns the classes changed by the commit, diffing it only the first time it is requested. */
+    public List<ChangedJavaClass> retrieveChanges(int commit) throws IOException {
+        return retrieveCommitChanges(commit).getChangedJavaClasses();
+    }
 
-        for(RevCommit comm : javaClass.getCommits()) {
-            try(DiffFormatter diffFormatter = new DiffFormatter(DisabledOutputStream.INSTANCE)) {
+    /** This method returns the changed paths and the added/deleted lines of the commit, diffing it only the first time
+     * it is requested. */
+    public CommitChanges retrieveCommitChanges(int commit) throws IOException {
+        ObjectId commitId = getCommitTable().getObjectId(commit);
+        CommitChanges commitChanges = changedPathIndex.get(commitId);
+        if(commitChanges == null) {
+            try(ObjectReader reader = this.repository.newObjectReader();
+                DiffFormatter diffFormatter = newDiffFormatter(reader)) {
+                commitChanges = scanChanges(commit, diffFormatter);
+            }
+            changedPathIndex.put(commitId, commitChanges);
+            diffCacheChanged = true;
+        }
+        return commitChanges;
+    }
 
-                RevCommit parentComm = comm.getParent(0);
+   /** This method essentially compares the current commit with its parent to determine which Java classes have been
+    * changed and then creates ChangedJavaClass objects to represent these changes. The edit list of each changed Java
+    * class is computed here, once, to get its added and deleted lines. */
+    private @NotNull CommitChanges scanChanges(int commit, @NotNull DiffFormatter diffFormatter) throws IOException {
+        CommitChanges commitChanges = new CommitChanges();
+
+        ObjectId parentComm = getCommitTable().getParentObjectId(commit);
+        if(parentComm == null) {
+            //commit has no parents: this is the first commit, so add all classes without added/deleted lines
+            for(ChangedJavaClass changedJavaClass: JavaClassUtils.createChangedJavaClass(getClasses(commit))) {
+                commitChanges.addChangedJavaClass(changedJavaClass);
+            }
+            return commitChanges;
+        }
 
-                diffFormatter.setRepository(this.repository);
-                diffFormatter.setDiffComparator(RawTextComparator.DEFAULT);
+        List<DiffEntry> entries = diffFormatter.scan(parentTree(commit, parentComm), getCommitTable().getTreeId(commit));
 
-                List<DiffEntry> diffs = diffFormatter.scan(parentComm.getTree(), comm.getTree());
-                for(DiffEntry entry : diffs) {
-                    if(entry.getNewPath().equals(javaClass.getName())) {
-                        javaClass.getMetrics().getAddedLinesList().add(getAddedLines(diffFormatter, entry));
-                        javaClass.getMetrics().getDeletedLinesList().add(getDeletedLines(diffFormatter, entry));
-                        break;
-                    }
-                }
-
-            } catch(ArrayIndexOutOfBoundsException e) {
-                //commit has no parents: skip this commit, return an empty list and go on
+        for (DiffEntry entry : entries) {
+            if(isJavaClass(entry.getNewPath())) {
+                commitChanges.addDiffedJavaClass(computeLineChanges(diffFormatter, entry));
+            } else {
+                commitChanges.addChangedJavaClass(new ChangedJavaClass(entry.getNewPath(), pathDictionary.intern(entry.getNewPath())));
             }
         }
+
+        return commitChanges;
     }
-    private int getAddedLines(@NotNull DiffFormatter diffFormatter, DiffEntry entry) throws IOException {
 
-        int addedLines = 0;
-        for(Edit edit : diffFormatter.toFileHeader(entry).toEditList()) {
-            addedLines += edit.getEndB() - edit.getBeginB();
+    /** Tree of the first parent: it is in the table unless the parent was left out of the walk, then it is parsed again. */
+    private @NotNull ObjectId parentTree(int commit, @NotNull ObjectId parentComm) throws IOException {
+        int parentId = getCommitTable().getParentId(commit);
+        if(parentId != -1) return getCommitTable().getTreeId(parentId);
+
+        try(RevWalk revWalk = new RevWalk(this.repository)) {
+            return revWalk.parseCommit(parentComm).getTree().copy();
         }
-        return addedLines;
+    }
 
+    /** The formatter reads objects through the given reader, so that each thread can use its own. */
+    private @NotNull DiffFormatter newDiffFormatter(@NotNull ObjectReader reader) {
+        DiffFormatter diffFormatter = new DiffFormatter(DisabledOutputStream.INSTANCE);
+        diffFormatter.setReader(reader, this.repository.getConfig());
+        diffFormatter.setDiffComparator(RawTextComparator.DEFAULT);
+        return diffFormatter;
     }
 
-    private int getDeletedLines(@NotNull DiffFormatter diffFormatter, DiffEntry entry) throws IOException {
+    private @NotNull ChangedJavaClass computeLineChanges(@NotNull DiffFormatter diffFormatter, @NotNull DiffEntry entry) throws IOException {
 
+        int addedLines = 0;
         int deletedLines = 0;
         for(Edit edit : diffFormatter.toFileHeader(entry).toEditList()) {
+            addedLines += edit.getEndB() - edit.getBeginB();
             deletedLines += edit.getEndA() - edit.getBeginA();
         }
-        return deletedLines;
+        return new ChangedJavaClass(entry.getNewPath(), pathDictionary.intern(entry.getNewPath()), addedLines, deletedLines);
+
+    }
 
+    /** We are keeping only Java classes that are not involved in tests */
+    private static boolean isJavaClass(@NotNull String path) {
+        return path.contains(".java") && !path.contains("/test/");
     }
 
 
@@ -1,27 +1,34 @@
 package org.example.retrievers;
 
-import org.eclipse.jgit.revwalk.RevCommit;
+import org.example.models.BuggyLabelMatrix;
 import org.example.models.ChangedJavaClass;
+import org.example.models.CommitTable;
 import org.example.models.JavaClass;
 import org.example.models.ReleaseInfo;
 import org.example.models.Ticket;
-import org.example.utils.GitUtils;
+import org.example.utils.IntList;
 import org.example.utils.JavaClassUtils;
 import org.example.utils.VersionUtils;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 
 public class MetricsRetriever {
     private MetricsRetriever() {}
 
+    /** Label the classes of the releases: a class is buggy in a release if a commit of a ticket touched it, the commit
+     * belongs to one of the releases and the release is an affected version of the ticket. The labels are collected in
+     * a class × release matrix and then set in the metrics of each release. */
     public static void computeBuggyness(List<ReleaseInfo> releaseInfoList, @NotNull List<Ticket> tickets, CommitRetriever commitRetriever, VersionRetriever versionRetriever) throws IOException {
-        initializeBuggyness(releaseInfoList);
+        BuggyLabelMatrix labels = BuggyLabelMatrix.of(releaseInfoList);
 
         for(Ticket ticket: tickets){
-            computeBuggyness(releaseInfoList, commitRetriever, versionRetriever, ticket);
+            computeBuggyness(releaseInfoList, commitRetriever, versionRetriever, ticket, labels);
+        }
+
+        for(int q = 0; q < releaseInfoList.size(); q++) {
+            releaseInfoList.get(q).applyBuggyLabels(labels, q);
         }
     }
 
@@ -32,135 +39,74 @@ public class MetricsRetriever {
         }
     }
 
-    private static void computeBuggyness(List<ReleaseInfo> releaseInfoList, CommitRetriever commitRetriever, VersionRetriever versionRetriever, @NotNull Ticket ticket) throws IOException {
+    private static void computeBuggyness(List<ReleaseInfo> releaseInfoList, CommitRetriever commitRetriever, VersionRetriever versionRetriever, @NotNull Ticket ticket, BuggyLabelMatrix labels) throws IOException {
+        int[] affectedRange = VersionUtils.retrieveAffectedRange(ticket, releaseInfoList);
+        if(affectedRange == null) return; //None of the releases is affected by the ticket
 
-        for (RevCommit commit : ticket.getAssociatedCommits()) {
+
+        IntList associatedCommits = ticket.getAssociatedCommits();
+        for (int i = 0; i < associatedCommits.size(); i++) {
+            int commit = associatedCommits.get(i);
             //For each commit associated to a ticket, set all classes touched in commit as buggy in all the affected versions of the ticket.
             ReleaseInfo releaseInfo = VersionUtils.retrieveCommitRelease(
                     versionRetriever,
-                    GitUtils.castToLocalDate(commit.getCommitterIdent().getWhen()),
+                    commitRetriever.getCommitTable().getEpochDay(commit),
                     releaseInfoList);
 
             if (releaseInfo != null) {
                 List<ChangedJavaClass> classChangedList = commitRetriever.retrieveChanges(commit);
 
                 for (ChangedJavaClass javaClass : classChangedList) {
-                    JavaClassUtils.updateJavaBuggyness(javaClass, releaseInfoList, ticket.getAffectedReleases());
+                    labels.markBuggy(javaClass.getPathId(), affectedRange[0], affectedRange[1]);
                 }
             }
         }
     }
 
-    private static void initializeBuggyness(List<ReleaseInfo> releaseInfoList) {
-        for(ReleaseInfo releaseInfo: releaseInfoList) {
-            for(JavaClass javaClass: releaseInfo.getJavaClasses()) {
-                javaClass.getMetrics().setClassBuggyness(false);
-            }
-        }
-    }
-
-
     public static void computeMetrics(List<ReleaseInfo> releaseInfoList, @NotNull List<Ticket> tickets, CommitRetriever commitRetriever, VersionRetriever versionRetriever) throws IOException {
 
         //Add the size metric in all the classes of the release.
-        addSizeLabel(releaseInfoList);
+        addSizeLabel(releaseInfoList, commitRetriever);
         computeBuggyness(releaseInfoList, tickets, commitRetriever, versionRetriever);
         computeFixedDefects(releaseInfoList, tickets, commitRetriever, versionRetriever);
-        computeLocData(releaseInfoList, commitRetriever);
-        computeNAuth(releaseInfoList);
+        //LOC and churn metrics are accumulated while the commits are associated with the classes (see getReleaseCommits).
+        computeNAuth(releaseInfoList, commitRetriever.getCommitTable());
 
     }
 
-    private static void computeNAuth(@NotNull List<ReleaseInfo> releaseInfoList) {
+    private static void computeNAuth(@NotNull List<ReleaseInfo> releaseInfoList, @NotNull CommitTable commitTable) {
 
+        //lastCountedClass[author] is the stamp of the last class whose count included the author: a new stamp per class
+        //makes each author count once per class without clearing anything between classes.
+        int[] lastCountedClass = new int[commitTable.getAuthors().size()];
+        int stamp = 0;
         for(ReleaseInfo rc: releaseInfoList){
-            for (JavaClass javaClass : rc.getJavaClasses()) {
-                List<String> classAuthors = new ArrayList<>();
-
-                for (RevCommit commit : javaClass.getCommits()) {
-                    if (!classAuthors.contains(commit.getAuthorIdent().getName())) {
-                        classAuthors.add(commit.getAuthorIdent().getName());
+            List<JavaClass> javaClasses = rc.getJavaClasses();
+            for (int row = 0; row < javaClasses.size(); row++) {
+                stamp++;
+                int classAuthors = 0;
+
+                IntList commits = javaClasses.get(row).getCommits();
+                for (int i = 0; i < commits.size(); i++) {
+                    int author = commitTable.getAuthorId(commits.get(i));
+                    if (lastCountedClass[author] != stamp) {
+                        lastCountedClass[author] = stamp;
+                        classAuthors++;
                     }
 
                 }
-                javaClass.getMetrics().setnAuth(classAuthors.size());
-
-            }
-        }
-    }
+                rc.getMetricsTable().setNumberOfAuthors(row, classAuthors);
 
-    private static void computeLocData(@NotNull List<ReleaseInfo> releaseInfoList, CommitRetriever commitRetriever) throws IOException {
-        for(ReleaseInfo rc: releaseInfoList) {
-            for (JavaClass javaClass : rc.getJavaClasses()) {
-                commitRetriever.computeAddedAndDeletedLinesList(javaClass);
-                computeLocAndChurnMetrics(javaClass);
             }
         }
     }
 
-    private static void computeLocAndChurnMetrics(@NotNull JavaClass javaClass) {
-
-        int sumLOC = 0;
-        int maxLOC = 0;
-        double avgLOC = 0;
-        int churn = 0;
-        int maxChurn = 0;
-        double avgChurn = 0;
-        int sumOfTheDeletedLOC = 0;
-        int maxDeletedLOC = 0;
-        double avgDeletedLOC = 0;
-
-        for(int i=0; i<javaClass.getMetrics().getAddedLinesList().size(); i++) {
-
-            int currentLOC = javaClass.getMetrics().getAddedLinesList().get(i);
-            int currentDeletedLOC = javaClass.getMetrics().getDeletedLinesList().get(i);
-            int currentDiff = Math.abs(currentLOC - currentDeletedLOC);
-
-            sumLOC = sumLOC + currentLOC;
-            churn = churn + currentDiff;
-            sumOfTheDeletedLOC = sumOfTheDeletedLOC + currentDeletedLOC;
-
-            if(currentLOC > maxLOC) {
-                maxLOC = currentLOC;
-            }
-            if(currentDiff > maxChurn) {
-                maxChurn = currentDiff;
-            }
-            if(currentDeletedLOC > maxDeletedLOC) {
-                maxDeletedLOC = currentDeletedLOC;
-            }
-
-        }
-
-        //If a class has 0 revisions, its AvgLOC, AvgDeletedLOC and AvgChurn are 0 (see initialization above).
-        int numberOfRevision = javaClass.getCommits().size();
-        if(!javaClass.getMetrics().getAddedLinesList().isEmpty()) {
-            avgLOC = 1.0*sumLOC/ numberOfRevision;
-        }
-        if(!javaClass.getMetrics().getAddedLinesList().isEmpty() || !javaClass.getMetrics().getDeletedLinesList().isEmpty()) {
-            avgChurn = 1.0*churn/ numberOfRevision;
-        }
-        if(!javaClass.getMetrics().getDeletedLinesList().isEmpty()) {
-            avgDeletedLOC = 1.0*sumOfTheDeletedLOC/ numberOfRevision;
-        }
-
-        javaClass.getMetrics().setLocAdded(sumLOC);
-        javaClass.getMetrics().setMaxLocAdded(maxLOC);
-        javaClass.getMetrics().setAvgLocAdded(avgLOC);
-        javaClass.getMetrics().setChurn(churn);
-        javaClass.getMetrics().setMaxChurn(maxChurn);
-        javaClass.getMetrics().setAvgChurn(avgChurn);
-        javaClass.getMetrics().setLocDeleted(sumOfTheDeletedLOC);
-        javaClass.getMetrics().setMaxLocDeleted(maxDeletedLOC);
-        javaClass.getMetrics().setAvgLocDeleted(avgDeletedLOC);
-    }
-
-    public static void addSizeLabel(@NotNull List<ReleaseInfo> releaseInfoList) {
+    public static void addSizeLabel(@NotNull List<ReleaseInfo> releaseInfoList, @NotNull CommitRetriever commitRetriever) throws IOException {
 
         for(ReleaseInfo rc: releaseInfoList) {
-            for(JavaClass javaClass: rc.getJavaClasses()) {
-                String[] lines = javaClass.getContent().split("\r\n|\r|\n");
-                javaClass.getMetrics().setSize(lines.length);
+            List<JavaClass> javaClasses = rc.getJavaClasses();
+            for(int row = 0; row < javaClasses.size(); row++) {
+                rc.getMetricsTable().setSize(row, commitRetriever.retrieveContentMetrics(javaClasses.get(row).getBlobId()).getSize());
             }
         }
     }
@@ -1,10 +1,12 @@
 package org.example.retrievers;
 
 import org.eclipse.jgit.api.errors.GitAPIException;
+import org.example.enums.ProportionStrategyEnum;
 import org.example.models.Ticket;
 import org.example.models.Version;
 import org.example.utils.JSONUtils;
 import org.example.utils.Proportion;
+import org.example.utils.ProportionEstimator;
 import org.example.utils.VersionUtils;
 import org.jetbrains.annotations.NotNull;
 import org.json.JSONArray;
@@ -15,11 +17,25 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
 
 /** With this class we take the tickets from JIRA */
 public class TicketRetriever {
+    private static final Logger logger = Logger.getLogger(TicketRetriever.class.getName());
     static final String FIELDS = "fields";
+    /** Strategy used to estimate the missing IVs; the others are only compared with it. */
+    private static final ProportionStrategyEnum PROPORTION_STRATEGY = ProportionStrategyEnum.INCREMENTAL;
+    /** Valid tickets needed before the proportion of the project is used instead of the cold start one. */
+    private static final int MIN_PROPORTION_TICKETS = 7;
+    private static final String SEARCH_URL = "https://issues.apache.org/jira/rest/api/2/search?jql=";
+    private static final String ISSUE_TYPE = "Bug";
+    private static final String STATUS = "closed";
+    private static final String RESOLUTION = "fixed";
     VersionRetriever versionRetriever;
     CommitRetriever commitRetriever;
     List<Ticket> tickets;
@@ -28,7 +44,7 @@ public class TicketRetriever {
 
     public TicketRetriever(String projName) throws GitAPIException, IOException, URISyntaxException {
         init(projName);
-        commitRetriever = new CommitRetriever("/home/giulia/Documenti/GitHub/" + projName.toLowerCase(), versionRetriever);
+        //The same commit table numbers the commits of the tickets and of the versions.
         commitRetriever.associateCommitAndVersion(versionRetriever.getProjVersions()); //Association of commits and versions and deletion of the version without commits
 
     }
@@ -41,11 +57,11 @@ public class TicketRetriever {
     /** This constructor initializes a TicketRetriever object for a specific project, retrieves bug tickets with a certain
      * criteria and prints out information about the retrieved tickets and associated commits. */
     private void init(String projName) throws GitAPIException, IOException, URISyntaxException {
-        String issueType = "Bug";
-        String status = "closed";
-        String resolution = "fixed";
         versionRetriever = new VersionRetriever(projName);
-        tickets = retrieveBugTickets(projName, issueType, status, resolution);
+        if(!coldStart) {
+            commitRetriever = new CommitRetriever(projName, "/home/giulia/Documenti/GitHub/" + projName.toLowerCase(), versionRetriever);
+        }
+        tickets = retrieveBugTickets(projName, ISSUE_TYPE, STATUS, RESOLUTION);
 
     }
 
@@ -68,10 +84,8 @@ public class TicketRetriever {
         do {
             /* Only gets a max of 1000 at a time, so must do this multiple times if bugs >1000 */
             j = i + 1000;
-            String url = "https://issues.apache.org/jira/rest/api/2/search?jql=project=%22"
-                    + projName + "%22AND%22issueType%22=%22" + issueType + "%22AND(%22status%22=%22" + status + "%22OR"
-                    + "%22status%22=%22resolved%22)AND%22resolution%22=%22" + resolution + "%22&fields=key,resolutiondate,versions,created&startAt="
-                    + i + "&maxResults=" + j;
+            String url = SEARCH_URL + bugTicketsJql(projName, issueType, status, resolution)
+                    + "&fields=key,resolutiondate,versions,created&startAt=" + i + "&maxResults=" + j;
             JSONObject json = JSONUtils.readJsonFromUrl(url);
             JSONArray issues = json.getJSONArray("issues");
             total = json.getInt("total");
@@ -95,15 +109,31 @@ public class TicketRetriever {
         if(!coldStart) {
             adjustInconsistentTickets(inconsistentTickets, consistentTickets); //Adjust the inconsistency tickets using proportion for missing IV, when you are not using cold start
             consistentTickets.sort(Comparator.comparing(Ticket::getCreationDate));
-            if(commitRetriever == null) {
-                commitRetriever = new CommitRetriever("/home/giulia/Documenti/GitHub/" + projName.toLowerCase(), versionRetriever);
-            }
             commitRetriever.associateTicketAndCommit(consistentTickets);
         } /* Adjust the inconsistency tickets using proportion for missing IV, when you are not using cold start */
         discardInvalidTicket(consistentTickets); /* Discard the tickets that aren't consistent yet.*/
         return consistentTickets;
     }
 
+    private static @NotNull String bugTicketsJql(String projName, String issueType, String status, String resolution) {
+        return "project=%22" + projName + "%22AND%22issueType%22=%22" + issueType + "%22AND(%22status%22=%22" + status + "%22OR"
+                + "%22status%22=%22resolved%22)AND%22resolution%22=%22" + resolution + "%22";
+    }
+
+    /** Identify the snapshot of the bug tickets (and of the versions they refer to) that a TicketRetriever of the project
+     * would retrieve now, without downloading them: it asks Jira only for the number of tickets and the last update among
+     * them, and hashes the versions of the project. */
+    public static @NotNull String retrieveBugTicketsFingerprint(String projName) throws IOException, URISyntaxException {
+        String url = SEARCH_URL + bugTicketsJql(projName, ISSUE_TYPE, STATUS, RESOLUTION)
+                + "%20ORDER%20BY%20updated%20DESC&fields=updated&maxResults=1";
+        JSONObject json = JSONUtils.readJsonFromUrl(url);
+        JSONArray issues = json.getJSONArray("issues");
+        String lastUpdate = issues.isEmpty() ? "" : issues.getJSONObject(0).getJSONObject(FIELDS).get("updated").toString();
+        JSONArray versions = VersionRetriever.retrieveProjectVersions(projName);
+
+        return json.getInt("total") + "|" + lastUpdate + "|" + versions.length() + "|" + Integer.toHexString(versions.toString().hashCode());
+    }
+
     /** This method helps to ensure that only valid tickets remain in the list after filtering out invalid ones based on
      * release indices.
      * Discard tickets that have OV > FV or that have IV=OV */
@@ -115,10 +145,21 @@ public class TicketRetriever {
 
 
     /** It adjusts inconsistent tickets based on a proportion value and ensures that the adjusted tickets are consistent
-     * before adding them to the list of consistent tickets.*/
+     * before adding them to the list of consistent tickets. The proportion is estimated while the tickets are scanned in
+     * order of resolution: each consistent ticket updates the estimate, each inconsistent one reads it.
+     * In the same pass every proportion strategy is fed with the consistent tickets and, before taking each one, predicts
+     * its IV: the mean error of the predictions of each strategy is logged to compare them. */
     private  void adjustInconsistentTickets(@NotNull List<Ticket> inconsistentTickets, @NotNull List<Ticket> consistentTickets) throws GitAPIException, IOException, URISyntaxException {
-        List<Ticket> ticketForProportion = new ArrayList<>();
+        Map<ProportionStrategyEnum, ProportionEstimator> proportionEstimators = new EnumMap<>(ProportionStrategyEnum.class);
+        for(ProportionStrategyEnum strategy: ProportionStrategyEnum.values()) {
+            proportionEstimators.put(strategy, new ProportionEstimator(strategy));
+        }
+        ProportionEstimator proportionEstimator = proportionEstimators.get(PROPORTION_STRATEGY);
+        int[] predictions = new int[ProportionStrategyEnum.values().length];
+        long[] predictionErrors = new long[ProportionStrategyEnum.values().length];
         List<Ticket> allTickets = new ArrayList<>();
+        Set<Ticket> inconsistentSet = new HashSet<>(inconsistentTickets);
+        Set<Ticket> consistentSet = new HashSet<>(consistentTickets);
 
         allTickets.addAll(inconsistentTickets);
         allTickets.addAll(consistentTickets);
@@ -126,25 +167,49 @@ public class TicketRetriever {
         allTickets.sort(Comparator.comparing(Ticket::getResolutionDate));
         for(Ticket ticket: allTickets) {
             double proportionValue;
-            if(inconsistentTickets.contains(ticket)) {  //If the ticket is in the inconsistent tickets list, then adjust the ticket using proportion.
-                proportionValue = incrementalProportion(ticketForProportion);
+            if(inconsistentSet.contains(ticket)) {  //If the ticket is in the inconsistent tickets list, then adjust the ticket using proportion.
+                proportionValue = incrementalProportion(proportionEstimator);
                 adjustTicket(ticket, proportionValue); //Use proportion to compute the IV.
-            } else if(consistentTickets.contains(ticket) && Proportion.isAValidTicketForProportion(ticket)) {
-                ticketForProportion.add(ticket);
+            } else if(consistentSet.contains(ticket) && Proportion.isAValidTicketForProportion(ticket)) {
+                for(ProportionEstimator estimator: proportionEstimators.values()) {
+                    predictInjectedRelease(ticket, estimator, predictions, predictionErrors);
+                    estimator.add(ticket);
+                }
             }
 
             if(isNotConsistent(ticket)) {
                 continue;
             }
-            if(!consistentTickets.contains(ticket))
+            if(consistentSet.add(ticket))
                 consistentTickets.add(ticket); //Add the adjusted ticket to the consistent list
         }
+        logProportionStrategies(proportionEstimators, predictions, predictionErrors);
+    }
+
+    /** Predict the IV of a consistent ticket with the estimate of the strategy before the ticket is taken into account,
+     * once the strategy has enough tickets to be used, and add the distance from the real IV to its errors. */
+    private static void predictInjectedRelease(@NotNull Ticket ticket, @NotNull ProportionEstimator estimator, int[] predictions, long[] predictionErrors) {
+        if(estimator.size() < MIN_PROPORTION_TICKETS) return;
+
+        int strategy = estimator.getStrategy().ordinal();
+        int predictedIndex = computeInjectedIndex(ticket.getOpeningRelease(), ticket.getFixedRelease(), estimator.estimate());
+        predictions[strategy]++;
+        predictionErrors[strategy] += Math.abs(predictedIndex - ticket.getInjectedRelease().getIndex());
+    }
+
+    private static void logProportionStrategies(@NotNull Map<ProportionStrategyEnum, ProportionEstimator> proportionEstimators, int[] predictions, long[] predictionErrors) {
+        for(ProportionEstimator estimator: proportionEstimators.values()) {
+            int strategy = estimator.getStrategy().ordinal();
+            double meanError = predictions[strategy] == 0 ? 0 : (double) predictionErrors[strategy] / predictions[strategy];
+            logger.info(() -> estimator.getStrategy() + " proportion " + estimator.estimate() + ": mean IV error " + meanError
+                    + " releases on " + predictions[strategy] + " tickets.");
+        }
     }
     /** Consistent ticket before adjusting them 7 */
-    private static double incrementalProportion(@NotNull List<Ticket> consistentTickets) throws GitAPIException, IOException, URISyntaxException {
+    private static double incrementalProportion(@NotNull ProportionEstimator proportionEstimator) throws GitAPIException, IOException, URISyntaxException {
         double proportionValue;
-        if(consistentTickets.size() >= 7) {
-            proportionValue = Proportion.computeProportionValue(consistentTickets);
+        if(proportionEstimator.size() >= MIN_PROPORTION_TICKETS) {
+            proportionValue = proportionEstimator.estimate();
         } else {
             proportionValue = Proportion.computeColdStartProportionValue();
         }
@@ -155,8 +220,11 @@ public class TicketRetriever {
      * accordingly. */
     private void adjustTicket(Ticket ticket, double proportionValue) {
         /* Assign the new injected version for the inconsistent ticket as max(0, FV-(FV-OV)*P)*/
-        Version ov = ticket.getOpeningRelease();
-        Version fv = ticket.getFixedRelease();
+        int newIndex = computeInjectedIndex(ticket.getOpeningRelease(), ticket.getFixedRelease(), proportionValue);
+        ticket.setInjectedRelease(versionRetriever.projVersions.get(newIndex));
+    }
+
+    private static int computeInjectedIndex(@NotNull Version ov, @NotNull Version fv, double proportionValue) {
         int newIndex;
         if(fv.getIndex() == ov.getIndex()) {
             newIndex = (int) Math.floor(fv.getIndex() - proportionValue);
@@ -165,7 +233,7 @@ public class TicketRetriever {
         }
         if(newIndex < 0)
             newIndex = 0;
-        ticket.setInjectedRelease(versionRetriever.projVersions.get(newIndex));
+        return newIndex;
     }
 
     /** Check that IV <= OV <= FV and that IV = AV[0]. If one condition is false, the ticket will add to inconsistency tickets */
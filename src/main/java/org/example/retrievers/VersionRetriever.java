@@ -1,5 +1,6 @@
 package org.example.retrievers;
 
+import org.example.models.ReleaseTimeline;
 import org.example.models.Version;
 import org.example.utils.JSONUtils;
 import org.jetbrains.annotations.NotNull;
@@ -13,35 +14,50 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Objects;
 
 
 /** With this class we take the version */
 public class VersionRetriever {
     public static final String RELEASE_DATE = "releaseDate";
     List<Version> projVersions;
+    private ReleaseTimeline releaseTimeline;
 
     public List<Version> getProjVersions() {
         return projVersions;
     }
 
+    /** Index of the current project versions, rebuilt after the versions change. */
+    public ReleaseTimeline getReleaseTimeline() {
+        if(releaseTimeline == null) {
+            releaseTimeline = new ReleaseTimeline(projVersions);
+        }
+        return releaseTimeline;
+    }
+
     public VersionRetriever(String projName) throws IOException, URISyntaxException {
         /*Fills the arraylist with releases dates and orders them
         Ignores releases with missing dates */
         getVersions(projName);
     }
     private void getVersions(String projName) throws IOException, URISyntaxException {
-        String url = "https://issues.apache.org/jira/rest/api/2/project/" + projName;
-        JSONObject json = JSONUtils.readJsonFromUrl(url);
-        JSONArray versions = json.getJSONArray("versions");
+        JSONArray versions = retrieveProjectVersions(projName);
         this.projVersions = createVersionArray(versions);
         sortRelease(this.projVersions);
         setIndex(this.projVersions);
     }
+
+    /** The versions of the project as returned by Jira. */
+    public static @NotNull JSONArray retrieveProjectVersions(String projName) throws IOException, URISyntaxException {
+        String url = "https://issues.apache.org/jira/rest/api/2/project/" + projName;
+        JSONObject json = JSONUtils.readJsonFromUrl(url);
+        return json.getJSONArray("versions");
+    }
+
     private void setIndex(@NotNull List<Version> versions) {
         int i = 0;
         for(Version versionInfo : versions) {
             versionInfo.setIndex(i);
+            versionInfo.setOrder(i);
             i++;
         }
     }
@@ -62,12 +78,7 @@ public class VersionRetriever {
     }
 
     private @Nullable Version searchVersion(String id) {
-        for(Version version: this.projVersions) {
-            if(Objects.equals(version.getId(), id)) {
-                return version;
-            }
-        }
-        return null;
+        return getReleaseTimeline().searchVersion(id);
     }
 
     private @NotNull List<Version> createVersionArray(@NotNull JSONArray versions) {
@@ -87,6 +98,7 @@ public class VersionRetriever {
     }
     public void deleteVersionWithoutCommits() {
         projVersions.removeIf(Version::isCommitListEmpty);
+        releaseTimeline = null;
 
         projVersions.sort(Comparator.comparing(Version::getDate));
         int i = 0;
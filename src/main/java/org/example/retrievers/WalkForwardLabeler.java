@@ -0,0 +1,100 @@
+package org.example.retrievers;
+
+import org.example.models.BuggyLabelMatrix;
+import org.example.models.ChangedJavaClass;
+import org.example.models.MetricsTable;
+import org.example.models.ReleaseInfo;
+import org.example.models.Ticket;
+import org.example.utils.IntList;
+import org.example.utils.VersionUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/** With this class we label the training releases of the walk forward incrementally. At iteration i the training set
+ * is made of the first i releases, labeled using only the tickets opened until the i-th release and only their commits
+ * that belong to the training set. A ticket commit therefore marks the classes it touched buggy in the affected releases
+ * from the iteration max(opening release index, position of the commit release + 1) on: the labels of each ticket commit
+ * are collected in the matrix of that iteration, so moving to the next iteration only ORs its matrix into the labels
+ * visible so far and applies the labels it adds. */
+public class WalkForwardLabeler {
+    private final List<ReleaseInfo> releaseInfoList;
+    /** newLabels[i] holds the labels that become visible at iteration i. */
+    private final BuggyLabelMatrix[] newLabels;
+    /** Labels visible at the last labeled iteration; the training set is the mask of its first releases. */
+    private final BuggyLabelMatrix visibleLabels;
+    private int iteration = 0;
+
+    /** The release info list must be sorted by release index, as done for the walk forward. */
+    public WalkForwardLabeler(@NotNull List<ReleaseInfo> releaseInfoList, @NotNull List<Ticket> tickets, @NotNull CommitRetriever commitRetriever, @NotNull VersionRetriever versionRetriever) throws IOException {
+        int releases = releaseInfoList.size();
+        this.releaseInfoList = releaseInfoList;
+        this.visibleLabels = BuggyLabelMatrix.of(releaseInfoList);
+        this.newLabels = new BuggyLabelMatrix[releases];
+        for(int i = 0; i < releases; i++) {
+            newLabels[i] = BuggyLabelMatrix.of(releaseInfoList);
+        }
+
+        Map<ReleaseInfo, Integer> positions = new IdentityHashMap<>();
+        for(int q = 0; q < releases; q++) {
+            positions.put(releaseInfoList.get(q), q);
+        }
+        for(Ticket ticket: tickets) {
+            addTicket(ticket, positions, commitRetriever, versionRetriever);
+        }
+    }
+
+    private void addTicket(@NotNull Ticket ticket, @NotNull Map<ReleaseInfo, Integer> positions, @NotNull CommitRetriever commitRetriever, @NotNull VersionRetriever versionRetriever) throws IOException {
+        int[] affectedRange = VersionUtils.retrieveAffectedRange(ticket, releaseInfoList);
+        if(affectedRange == null) return;
+
+        IntList commits = ticket.getAssociatedCommits();
+        for(int i = 0; i < commits.size(); i++) {
+            int commit = commits.get(i);
+            ReleaseInfo commitRelease = VersionUtils.retrieveCommitRelease(
+                    versionRetriever,
+                    commitRetriever.getCommitTable().getEpochDay(commit),
+                    releaseInfoList);
+            if(commitRelease == null) continue;
+
+            //The ticket is used from the iteration of its opening release, the commit once its release is in the training set.
+            int first = Math.max(ticket.getOpeningRelease().getIndex(), positions.get(commitRelease) + 1);
+            if(first >= releaseInfoList.size()) continue;
+
+            for(ChangedJavaClass changedJavaClass: commitRetriever.retrieveChanges(commit)) {
+                newLabels[first].markBuggy(changedJavaClass.getPathId(), affectedRange[0], affectedRange[1]);
+            }
+        }
+    }
+
+    /** Label the training releases of the given iteration, which must be the one after the last labeled. The release
+     * entering the training set replaces its labels (until now the ones computed with all the tickets, as a testing
+     * release); the other training releases only get the labels that become visible at this iteration. The testing
+     * release is left untouched. Returns the number of labels changed. */
+    public int labelIteration(int i) {
+        if(i != iteration + 1 || i >= releaseInfoList.size()) {
+            throw new IllegalStateException("Iteration " + i + " cannot follow iteration " + iteration);
+        }
+        iteration = i;
+        visibleLabels.or(newLabels[i]);
+
+        int entering = i - 1;
+        int changedLabels = releaseInfoList.get(entering).applyBuggyLabels(visibleLabels, entering);
+
+        int[] newlyBuggy = {0};
+        newLabels[i].forEachBuggy(entering, (pathId, q) -> {
+            MetricsTable metrics = releaseInfoList.get(q).getMetricsTable();
+            int row = releaseInfoList.get(q).getJavaClassRow(pathId);
+            if(row != -1 && !metrics.isBuggy(row)) {
+                metrics.setBuggy(row, true);
+                newlyBuggy[0]++;
+            }
+        });
+        newLabels[i] = null; //Already part of the visible labels
+
+        return changedLabels + newlyBuggy[0];
+    }
+}
@@ -2,10 +2,11 @@ package org.example.retrievers;
 
 import org.example.enums.*;
 import org.example.utils.AcumeUtils;
+import org.example.utils.AttributeSelectionCache;
+import org.example.utils.AttributeSubsetClassifier;
+import org.example.utils.CoreAllocator;
 import org.example.models.ClassifierEvaluation;
 import org.jetbrains.annotations.NotNull;
-import org.example.utils.FileUtils;
-import weka.attributeSelection.*;
 import weka.classifiers.Classifier;
 import weka.classifiers.CostMatrix;
 import weka.classifiers.Evaluation;
@@ -16,41 +17,45 @@ import weka.classifiers.meta.FilteredClassifier;
 import weka.classifiers.trees.RandomForest;
 import weka.core.Instances;
 import weka.core.Utils;
-import weka.core.converters.ConverterUtils.DataSource;
 import weka.filters.Filter;
-import weka.filters.supervised.attribute.AttributeSelection;
 import weka.filters.supervised.instance.Resample;
 import weka.filters.supervised.instance.SMOTE;
 import weka.filters.supervised.instance.SpreadSubsample;
 
-import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import static org.example.creator.FileCreator.writeCsvForAcume;
 
 public class WekaInfoRetriever {
-
     private final String projName;
-    private final int numIter;
-
-    public WekaInfoRetriever(String projName, int numIter) {
+    private final Map<String, List<ClassifierEvaluation>> classifiersListMap = new HashMap<>();
+    /** Number of cores shared by the combinations of an iteration evaluated concurrently, set with -DevaluationThreads=n. */
+    private final int evaluationCores = Math.max(1, Integer.getInteger("evaluationThreads", Runtime.getRuntime().availableProcessors()));
+    /** Attributes selected on each (iteration, search direction, sampling): they do not depend on the classifier and on
+     * the cost policy that follow. */
+    private final AttributeSelectionCache attributeSelectionCache = new AttributeSelectionCache();
+
+    public WekaInfoRetriever(String projName) {
         this.projName = projName;
-        this.numIter = numIter;
-    }
-
-    public List<ClassifierEvaluation> retrieveClassifiersEvaluation(String projName) throws Exception {
-
-        Map<String, List<ClassifierEvaluation>> classifiersListMap = new HashMap<>();
-
         for(ClassifierEnum classifierName: ClassifierEnum.values()) {
             classifiersListMap.put(classifierName.name(), new ArrayList<>());
         }
+    }
 
-        for(int i=1; i<=this.numIter; i++) {    //For each iteration
+    /** Evaluate the classifiers on the training and testing sets of an iteration built in memory, without going through
+     * the arff files. Each combination works on its own copy of the sets. */
+    public void evaluateIteration(int i, @NotNull Instances training, @NotNull Instances testing) throws Exception {
+        computeIteration(this.projName, i, copiesOf(training, testing));
+    }
 
-            computeIteration(projName, classifiersListMap, i);
-        }
+    private static @NotNull DatasetSupplier copiesOf(@NotNull Instances training, @NotNull Instances testing) {
+        return dataset -> new Instances(dataset == FilenamesEnum.TRAINING ? training : testing);
+    }
 
+    /** The evaluations computed so far, grouped by classifier. */
+    public @NotNull List<ClassifierEvaluation> getClassifiersEvaluation() {
         List<ClassifierEvaluation> classifierEvaluationList = new ArrayList<>();
 
         for(Map.Entry<String, List<ClassifierEvaluation>> classifierName: classifiersListMap.entrySet()) {
@@ -61,30 +66,41 @@ public class WekaInfoRetriever {
     }
 
     /** This method iterates through all possible combinations of classifiers, feature selection modes, sampling modes and
-     * cost-sensitive modes. For each combination, it calls the useClassifier method to evaluate the classifier and adds
-     * the result to the classifiersListMap map. */
-    private void computeIteration(String projName, Map<String, List<ClassifierEvaluation>> classifiersListMap, int i) throws Exception {
-        for(ClassifierEnum classifierName: ClassifierEnum.values()) { //For each classifier
-            for (FeatureSelectionEnum featureSelectionEnum : FeatureSelectionEnum.values()) {   //Iterate on all feature selection mode
-                for (SamplingEnum samplingEnum : SamplingEnum.values()) {       //Iterate on all sampling mode
-                    for (CostSensitiveEnum costSensitiveEnum : CostSensitiveEnum.values()) {    //Iterate on all cost sensitive mode
-                        //Evaluate the classifier
-                        classifiersListMap.get(classifierName.name())  //Get the list associated to the actual classifier
-                                .add(useClassifier(i, projName, classifierName, featureSelectionEnum, samplingEnum, costSensitiveEnum)); //Evaluate the classifier
+     * cost-sensitive modes. The combinations are independent, so they are evaluated concurrently by a pool of workers:
+     * each one builds its own classifier and filters on its own copy of the sets, once the cores of its classifier are
+     * available. The results are added to the classifiersListMap map in the order of the combinations, whatever the
+     * order in which they complete. */
+    private void computeIteration(String projName, int i, DatasetSupplier datasetSupplier) throws Exception {
+        try(CoreAllocator coreAllocator = new CoreAllocator(evaluationCores)) {
+            List<Future<ClassifierEvaluation>> futures = new ArrayList<>();
+            for(ClassifierEnum classifierName: ClassifierEnum.values()) { //For each classifier
+                int cores = coreAllocator.coresFor(classifierName);
+                for (FeatureSelectionEnum featureSelectionEnum : FeatureSelectionEnum.values()) {   //Iterate on all feature selection mode
+                    for (SamplingEnum samplingEnum : SamplingEnum.values()) {       //Iterate on all sampling mode
+                        for (CostSensitiveEnum costSensitiveEnum : CostSensitiveEnum.values()) {    //Iterate on all cost sensitive mode
+                            //Evaluate the classifier
+                            futures.add(coreAllocator.submit(cores, () -> useClassifier(i, projName, datasetSupplier.get(FilenamesEnum.TRAINING), datasetSupplier.get(FilenamesEnum.TESTING), classifierName, featureSelectionEnum, samplingEnum, costSensitiveEnum, cores)));
+                        }
                     }
                 }
             }
+            for(Future<ClassifierEvaluation> future: futures) {
+                ClassifierEvaluation classifierEvaluation = future.get();
+                classifiersListMap.get(classifierEvaluation.getClassifier())  //Get the list associated to the actual classifier
+                        .add(classifierEvaluation);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while evaluating the classifiers", e);
+        } catch (ExecutionException e) {
+            if(e.getCause() instanceof Exception exception) throw exception;
+            throw new IllegalStateException("Failed to evaluate the classifiers", e.getCause());
         }
     }
 
-    private @NotNull ClassifierEvaluation useClassifier(int index, String projName, ClassifierEnum classifierName, @NotNull FeatureSelectionEnum featureSelection, @NotNull SamplingEnum sampling, CostSensitiveEnum costSensitive) throws Exception {
-
-        Classifier classifier = getClassifierByEnum(classifierName);
+    private @NotNull ClassifierEvaluation useClassifier(int index, String projName, @NotNull Instances training, @NotNull Instances testing, ClassifierEnum classifierName, @NotNull FeatureSelectionEnum featureSelection, @NotNull SamplingEnum sampling, CostSensitiveEnum costSensitive, int cores) throws Exception {
 
-        DataSource source1 = new DataSource(Path.of("retrieved_data", projName, "training", FileUtils.getArffFilename(FilenamesEnum.TRAINING, projName, index)).toString());
-        DataSource source2 = new DataSource(Path.of("retrieved_data", projName, "testing",  FileUtils.getArffFilename(FilenamesEnum.TESTING, projName, index)).toString());
-        Instances training = source1.getDataSet();
-        Instances testing = source2.getDataSet();
+        Classifier classifier = getClassifierByEnum(classifierName, cores);
 
         int numAttr = training.numAttributes();
         training.setClassIndex(numAttr - 1);
@@ -96,16 +112,12 @@ public class WekaInfoRetriever {
         switch (featureSelection) {
             case BEST_FIRST_FORWARD -> {
                 //FEATURE SELECTION WITH BEST FIRST FORWARD TECNIQUE
-                AttributeSelection filter = getBestFirstAttributeSelection(training, "-D 1 -N 5");
-
-                classifier = getFilteredClassifier(classifier, filter); /* This line of code is responsible for creating
-                a new classifier that also incorporates a specific filter, which will be used for the training model. */
+                classifier = new AttributeSubsetClassifier(classifier, attributeSelectionCache, getAttributeSelectionKey(index, featureSelection, sampling), "-D 1 -N 5"); /* This line
+                of code is responsible for creating a new classifier that is trained only on the selected attributes. */
             }
             case BEST_FIRST_BACKWARD -> {
                 //FEATURE SELECTION WITH BEST FIRST BACKWARD TECNIQUE
-                AttributeSelection filter = getBestFirstAttributeSelection(training, "-D 0 -N 5");
-
-                classifier = getFilteredClassifier(classifier, filter);
+                classifier = new AttributeSubsetClassifier(classifier, attributeSelectionCache, getAttributeSelectionKey(index, featureSelection, sampling), "-D 0 -N 5");
             }
             case NONE -> {
                 //NO FEATURE SELECTION
@@ -221,13 +233,10 @@ public class WekaInfoRetriever {
     }
 
 
-    private static AttributeSelection getBestFirstAttributeSelection(Instances training, String quotedOptionString) throws Exception {
-        AttributeSelection filter = new AttributeSelection();
-        BestFirst search = new BestFirst();
-        search.setOptions(Utils.splitOptions(quotedOptionString));
-        filter.setSearch(search);
-        filter.setInputFormat(training);
-        return filter;
+    /** The selection runs on the training set after the sampling, which is the same whatever classifier and cost policy
+     * are used: the filters of the sampling are seeded from the data. */
+    private static @NotNull String getAttributeSelectionKey(int index, @NotNull FeatureSelectionEnum featureSelection, @NotNull SamplingEnum sampling) {
+        return index + "_" + featureSelection + "_" + sampling;
     }
 
     @NotNull
@@ -240,7 +249,8 @@ public class WekaInfoRetriever {
         return filteredClassifier;
     }
 
-    private Classifier getClassifierByEnum(@NotNull ClassifierEnum classifierName){
+    /** The classifier to evaluate; a forest builds its trees on the given number of cores. */
+    private Classifier getClassifierByEnum(@NotNull ClassifierEnum classifierName, int cores){
         switch (classifierName) {
             case IBK -> {
                 return new IBk();
@@ -249,7 +259,9 @@ public class WekaInfoRetriever {
                 return new NaiveBayes();
             }
             case RANDOM_FOREST -> {
-                return new RandomForest();
+                RandomForest randomForest = new RandomForest();
+                randomForest.setNumExecutionSlots(cores);
+                return randomForest;
             }
         }
 
@@ -267,5 +279,10 @@ public class WekaInfoRetriever {
         return costMatrix;
     }
 
+    /** Gives each evaluated combination its own training (TRAINING) or testing (TESTING) set of the iteration. */
+    private interface DatasetSupplier {
+        @NotNull Instances get(@NotNull FilenamesEnum dataset) throws Exception;
+    }
+
 
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package org.example.utils;
+
+import org.jetbrains.annotations.NotNull;
+import weka.attributeSelection.AttributeSelection;
+import weka.attributeSelection.BestFirst;
+import weka.attributeSelection.CfsSubsetEval;
+import weka.core.Instances;
+import weka.core.Utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/** With this class we memoize the attributes chosen by the feature selection. The subset depends only on the data the
+ * search runs on, so every key is searched once: concurrent requests of the same key wait for the first one instead of
+ * repeating the search. */
+public class AttributeSelectionCache {
+    private final Map<String, FutureTask<int[]>> selectedAttributes = new ConcurrentHashMap<>();
+
+    /** The indices of the attributes (class included) selected on the data by a BestFirst search with the given options
+     * over CfsSubsetEval, as the AttributeSelection filter does; the search runs only the first time the key is seen. */
+    public int @NotNull [] selectAttributes(@NotNull String key, @NotNull Instances data, @NotNull String searchOptions) throws Exception {
+        FutureTask<int[]> selection = new FutureTask<>(() -> runSearch(data, searchOptions));
+        FutureTask<int[]> cached = selectedAttributes.putIfAbsent(key, selection);
+        if(cached == null) {
+            selection.run();
+            cached = selection;
+        }
+
+        try {
+            return cached.get().clone();
+        } catch (ExecutionException e) {
+            if(e.getCause() instanceof Exception exception) throw exception;
+            throw new IllegalStateException("Failed to select the attributes of " + key, e.getCause());
+        }
+    }
+
+    private static int @NotNull [] runSearch(@NotNull Instances data, @NotNull String searchOptions) throws Exception {
+        BestFirst search = new BestFirst();
+        search.setOptions(Utils.splitOptions(searchOptions));
+
+        AttributeSelection attributeSelection = new AttributeSelection();
+        attributeSelection.setEvaluator(new CfsSubsetEval());
+        attributeSelection.setSearch(search);
+        attributeSelection.SelectAttributes(data);
+        return attributeSelection.selectedAttributes();
+    }
+}
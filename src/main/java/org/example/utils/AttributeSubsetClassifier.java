@@ -0,0 +1,36 @@
+package org.example.utils;
+
+import org.jetbrains.annotations.NotNull;
+import weka.classifiers.Classifier;
+import weka.classifiers.meta.FilteredClassifier;
+import weka.core.Instances;
+import weka.filters.unsupervised.attribute.Remove;
+
+/** With this class we train a classifier on the attributes chosen by the feature selection, taking them from the
+ * AttributeSelectionCache: the training set is only projected on the selected attributes by a Remove filter, so the
+ * search is not repeated for every classifier and cost policy that use the same data. */
+public class AttributeSubsetClassifier extends FilteredClassifier {
+    private static final long serialVersionUID = 1L;
+
+    private final transient AttributeSelectionCache attributeSelectionCache;
+    private final String key;
+    private final String searchOptions;
+
+    public AttributeSubsetClassifier(Classifier classifier, @NotNull AttributeSelectionCache attributeSelectionCache, @NotNull String key, @NotNull String searchOptions) {
+        this.attributeSelectionCache = attributeSelectionCache;
+        this.key = key;
+        this.searchOptions = searchOptions;
+        setClassifier(classifier);
+        setFilter(new Remove());
+    }
+
+    @Override
+    public void buildClassifier(Instances data) throws Exception {
+        Remove remove = new Remove();
+        remove.setAttributeIndicesArray(attributeSelectionCache.selectAttributes(key, data, searchOptions));
+        remove.setInvertSelection(true); //Keep the selected attributes
+        setFilter(remove);
+
+        super.buildClassifier(data);
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.utils;
+
+import org.example.enums.FilenamesEnum;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+/** With this class we persist the proportion value computed on the tickets of a project used for cold start, together
+ * with the fingerprint of the ticket snapshot it was computed on, so that a new run reuses it until the tickets or the
+ * versions of the project change on Jira. */
+public class ColdStartCache {
+    private static final Logger logger = Logger.getLogger(ColdStartCache.class.getName());
+    private static final String FINGERPRINT = "fingerprint";
+    private static final String PROPORTION = "proportion";
+
+    private final Path cachePath;
+
+    public ColdStartCache(String projName) {
+        this.cachePath = Path.of("retrieved_data", projName, FileUtils.enumToDirectoryName(FilenamesEnum.COLD_START_CACHE),
+                projName + FileUtils.enumToFilename(FilenamesEnum.COLD_START_CACHE, 0) + ".properties");
+    }
+
+    /** The cached proportion value, or null when it is missing, unreadable or computed on a different snapshot. */
+    public @Nullable Double load(@NotNull String fingerprint) {
+        if(!Files.exists(cachePath)) return null;
+
+        Properties properties = new Properties();
+        try(InputStream in = Files.newInputStream(cachePath)) {
+            properties.load(in);
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warning(() -> "Unreadable cold start cache " + cachePath + ", it will be rebuilt.");
+            return null;
+        }
+
+        String proportion = properties.getProperty(PROPORTION);
+        if(!fingerprint.equals(properties.getProperty(FINGERPRINT)) || proportion == null) return null;
+        try {
+            return Double.valueOf(proportion);
+        } catch (NumberFormatException e) {
+            logger.warning(() -> "Unreadable cold start cache " + cachePath + ", it will be rebuilt.");
+            return null;
+        }
+    }
+
+    public void save(@NotNull String fingerprint, double proportion) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty(FINGERPRINT, fingerprint);
+        properties.setProperty(PROPORTION, Double.toString(proportion));
+
+        Files.createDirectories(cachePath.getParent());
+        Path tmpPath = cachePath.resolveSibling(cachePath.getFileName() + ".tmp");
+        try(OutputStream out = Files.newOutputStream(tmpPath)) {
+            properties.store(out, null);
+        }
+        Files.move(tmpPath, cachePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
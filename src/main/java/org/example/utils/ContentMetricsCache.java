@@ -0,0 +1,39 @@
+package org.example.utils;
+
+import org.eclipse.jgit.lib.ObjectId;
+import org.example.models.ContentMetrics;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/** Memo table of the content-derived metrics keyed by blob id: most classes are byte-identical between consecutive
+ * releases, so their content is read only the first time. */
+public class ContentMetricsCache {
+    private final Map<ObjectId, ContentMetrics> metricsByBlob = new HashMap<>();
+    private int hits = 0;
+    private int misses = 0;
+
+    public @Nullable ContentMetrics get(@NotNull ObjectId blobId) {
+        ContentMetrics contentMetrics = metricsByBlob.get(blobId);
+        if(contentMetrics == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return contentMetrics;
+    }
+
+    public void put(@NotNull ObjectId blobId, @NotNull ContentMetrics contentMetrics) {
+        metricsByBlob.put(blobId.toObjectId(), contentMetrics);
+    }
+
+    public int getHits() {
+        return hits;
+    }
+
+    public int getMisses() {
+        return misses;
+    }
+}
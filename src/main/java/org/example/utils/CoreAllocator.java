@@ -0,0 +1,72 @@
+package org.example.utils;
+
+import org.example.enums.ClassifierEnum;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/** With this class we split the cores between the evaluations that run concurrently and the threads each one uses
+ * internally. A RandomForest builds its trees on several execution slots and holds as many cores, while NaiveBayes and
+ * IBk are single threaded and hold one, so that many of them are packed in the same cores.
+ * Jobs are run by a pool per number of cores, with as many threads as such jobs fit in the cores: a forest waiting for
+ * its cores never takes a thread that a single-core job could use. A waiting job takes the cores as soon as enough of
+ * them are free, without queueing behind bigger jobs, and since it holds no cores while waiting it cannot block the
+ * running ones. */
+public class CoreAllocator implements AutoCloseable {
+    private final int cores;
+    private int freeCores;
+    /** Only used by the thread that submits the jobs. */
+    private final Map<Integer, ExecutorService> executorsByJobCores = new HashMap<>();
+
+    public CoreAllocator(int cores) {
+        this.cores = Math.max(1, cores);
+        this.freeCores = this.cores;
+    }
+
+    /** Number of cores used by an evaluation of the classifier: half of the cores for a forest, so that two of them
+     * keep the machine busy, one for the others. */
+    public int coresFor(@NotNull ClassifierEnum classifierName) {
+        return switch (classifierName) {
+            case RANDOM_FOREST -> Math.max(1, cores / 2);
+            case NAIVE_BAYES, IBK -> 1;
+        };
+    }
+
+    /** Run the job once the given number of cores is free, holding them until it completes. */
+    public <T> @NotNull Future<T> submit(int jobCores, @NotNull Callable<T> job) {
+        int requestedCores = Math.min(Math.max(1, jobCores), cores);
+        ExecutorService executor = executorsByJobCores.computeIfAbsent(requestedCores, c -> Executors.newFixedThreadPool(cores / c));
+        return executor.submit(() -> {
+            acquire(requestedCores);
+            try {
+                return job.call();
+            } finally {
+                release(requestedCores);
+            }
+        });
+    }
+
+    private synchronized void acquire(int jobCores) throws InterruptedException {
+        while(freeCores < jobCores) {
+            wait();
+        }
+        freeCores -= jobCores;
+    }
+
+    private synchronized void release(int jobCores) {
+        freeCores += jobCores;
+        notifyAll();
+    }
+
+    @Override
+    public void close() {
+        for(ExecutorService executor: executorsByJobCores.values()) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package org.example.utils;
+
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.example.enums.FilenamesEnum;
+import org.example.models.ChangedJavaClass;
+import org.example.models.CommitChanges;
+import org.example.models.PathDictionary;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/** With this class we persist the changes of each commit (changed paths and added/deleted lines), keyed by commit id,
+ * so that a new run only diffs the commits that were never seen before.
+ * The file starts with a table of all the distinct paths, then for each commit it stores the raw id followed by its
+ * entries as (path index, diffed flag, added lines, deleted lines), with all the numbers written as varints. */
+public class DiffCache {
+    private static final Logger logger = Logger.getLogger(DiffCache.class.getName());
+    private static final int MAGIC = 0x44494643;
+    private static final int FORMAT_VERSION = 2;
+
+    private final Path cachePath;
+
+    public DiffCache(String projName) {
+        this.cachePath = Path.of("retrieved_data", projName, FileUtils.enumToDirectoryName(FilenamesEnum.DIFF_CACHE),
+                projName + FileUtils.enumToFilename(FilenamesEnum.DIFF_CACHE, 0) + ".bin");
+    }
+
+    /** Read the cached changes; a missing, outdated or corrupted file simply gives an empty cache. */
+    public @NotNull Map<ObjectId, CommitChanges> load(@NotNull PathDictionary pathDictionary) {
+        Map<ObjectId, CommitChanges> changes = new HashMap<>();
+        if(!Files.exists(cachePath)) return changes;
+
+        try(DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(cachePath)))) {
+            if(in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                logger.info("Diff cache format changed, it will be rebuilt.");
+                return changes;
+            }
+
+            int pathCount = readCount(in);
+            String[] paths = new String[pathCount];
+            int[] pathIds = new int[pathCount];
+            for(int i = 0; i < pathCount; i++) {
+                paths[i] = in.readUTF();
+                pathIds[i] = pathDictionary.intern(paths[i]);
+            }
+
+            byte[] rawId = new byte[Constants.OBJECT_ID_LENGTH];
+            int commitCount = readCount(in);
+            for(int i = 0; i < commitCount; i++) {
+                in.readFully(rawId);
+                changes.put(ObjectId.fromRaw(rawId), readCommitChanges(in, paths, pathIds));
+            }
+        } catch (IOException | IndexOutOfBoundsException e) {
+            logger.warning(() -> "Unreadable diff cache " + cachePath + ", it will be rebuilt.");
+            changes.clear();
+        }
+        return changes;
+    }
+
+    public void save(@NotNull Map<ObjectId, CommitChanges> changes) throws IOException {
+        Map<String, Integer> pathIndexes = new HashMap<>();
+        List<String> paths = new ArrayList<>();
+        for(CommitChanges commitChanges: changes.values()) {
+            for(ChangedJavaClass changedJavaClass: commitChanges.getChangedJavaClasses()) {
+                pathIndexes.computeIfAbsent(changedJavaClass.getJavaClassName(), path -> {
+                    paths.add(path);
+                    return paths.size() - 1;
+                });
+            }
+        }
+
+        Files.createDirectories(cachePath.getParent());
+        Path tmpPath = cachePath.resolveSibling(cachePath.getFileName() + ".tmp");
+        try(DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmpPath)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+
+            writeVarInt(out, paths.size());
+            for(String path: paths) {
+                out.writeUTF(path);
+            }
+
+            byte[] rawId = new byte[Constants.OBJECT_ID_LENGTH];
+            writeVarInt(out, changes.size());
+            for(Map.Entry<ObjectId, CommitChanges> entry: changes.entrySet()) {
+                entry.getKey().copyRawTo(rawId, 0);
+                out.write(rawId);
+                writeCommitChanges(out, entry.getValue(), pathIndexes);
+            }
+        }
+        Files.move(tmpPath, cachePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static @NotNull CommitChanges readCommitChanges(DataInputStream in, String[] paths, int[] pathIds) throws IOException {
+        CommitChanges commitChanges = new CommitChanges();
+        int entryCount = readCount(in);
+        for(int j = 0; j < entryCount; j++) {
+            int pathIndex = readVarInt(in);
+            if(in.readBoolean()) {
+                commitChanges.addDiffedJavaClass(new ChangedJavaClass(paths[pathIndex], pathIds[pathIndex], readVarInt(in), readVarInt(in)));
+            } else {
+                commitChanges.addChangedJavaClass(new ChangedJavaClass(paths[pathIndex], pathIds[pathIndex]));
+            }
+        }
+        return commitChanges;
+    }
+
+    private static void writeCommitChanges(DataOutputStream out, @NotNull CommitChanges commitChanges, Map<String, Integer> pathIndexes) throws IOException {
+        writeVarInt(out, commitChanges.getChangedJavaClasses().size());
+        for(ChangedJavaClass changedJavaClass: commitChanges.getChangedJavaClasses()) {
+            writeVarInt(out, pathIndexes.get(changedJavaClass.getJavaClassName()));
+            boolean diffed = commitChanges.getDiffedJavaClass(changedJavaClass.getJavaClassName()) == changedJavaClass;
+            out.writeBoolean(diffed);
+            if(diffed) {
+                writeVarInt(out, changedJavaClass.getAddedLines());
+                writeVarInt(out, changedJavaClass.getDeletedLines());
+            }
+        }
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    /** A count of items that follow: each one takes at least a byte, so a corrupted count is detected before any array
+     * is allocated with it. */
+    private static int readCount(DataInputStream in) throws IOException {
+        int count = readVarInt(in);
+        if(count < 0 || count > in.available()) {
+            throw new IOException("Malformed count in diff cache: " + count);
+        }
+        return count;
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for(int shift = 0; shift < 32; shift += 7) {
+            byte b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            if((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Malformed varint in diff cache");
+    }
+}
@@ -18,6 +18,8 @@ public class FileUtils {
             case METRICS -> "_metrics";
             case ACUME ->  "_ACUME" + index;
             case EVALUATING -> "_classifiers_report";
+            case DIFF_CACHE -> "_diff_cache";
+            case COLD_START_CACHE -> "_cold_start_proportion";
         };
 
     }
@@ -28,6 +30,7 @@ public class FileUtils {
             case TRAINING -> "training";
             case TESTING -> "testing";
             case EVALUATING -> "evaluating";
+            case DIFF_CACHE, COLD_START_CACHE -> "cache";
             default -> "metrics";
         };
 
@@ -1,18 +1,21 @@
 package org.example.utils;
 
+import org.eclipse.jgit.lib.ObjectLoader;
+import org.eclipse.jgit.lib.ObjectStream;
 import org.eclipse.jgit.lib.Repository;
-import org.eclipse.jgit.revwalk.RevCommit;
 import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+import org.example.models.CommitTable;
 import org.example.models.ReleaseInfo;
 import org.example.models.Version;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.io.IOException;
-import java.text.SimpleDateFormat;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.List;
 
 
@@ -21,35 +24,50 @@ public class GitUtils {
         throw new IllegalStateException("Utility class");
     }
 
-    public static ReleaseInfo getCommitsOfRelease(List<RevCommit> commitsList, Version release, LocalDate firstDate) {
-
-        List<RevCommit> matchingCommits = new ArrayList<>();
-        LocalDate lastDate = release.getDate();
-
-        for(RevCommit commit : commitsList) {
-            LocalDate commitDate = commit.getCommitterIdent().getWhen().toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
-
-            //if firstDate < commitDate <= lastDate then add the commit in matchingCommits list
-            if(commitDate.isAfter(firstDate) && !commitDate.isAfter(lastDate)) {
-                matchingCommits.add(commit);
+    /** This method splits the commits into release buckets with a single merge pass: the i-th bucket holds the commits
+     * with previousReleaseDate < commitDate <= releaseDate of the i-th release. The commits of the table are in
+     * chronological order and the releases must be sorted by date, so the cost is O(commits + releases) instead of one scan of all the commits per release. */
+    public static @NotNull List<IntList> partitionCommitsByRelease(@NotNull CommitTable commitTable, @NotNull List<Version> sortedReleases) {
+        List<IntList> releaseCommits = new ArrayList<>(sortedReleases.size());
+        long lowerBound = LocalDate.of(1900, 1, 1).toEpochDay();
+        int next = 0;
+
+        for(Version release : sortedReleases) {
+            IntList matchingCommits = new IntList();
+            long releaseDay = release.getDate().toEpochDay();
+            for(; next < commitTable.size(); next++) {
+                int commitDay = commitTable.getEpochDay(next);
+                if(commitDay > releaseDay) break;
+
+                //if firstDate < commitDate <= lastDate then add the commit in matchingCommits list
+                if(commitDay > lowerBound) {
+                    matchingCommits.add(next);
+                }
             }
-
+            releaseCommits.add(matchingCommits);
+            lowerBound = releaseDay;
         }
 
+        return releaseCommits;
+    }
+
+    public static @Nullable ReleaseInfo getCommitsOfRelease(@NotNull IntList matchingCommits, Version release, @NotNull CommitTable commitTable) {
+
         if(matchingCommits.isEmpty()) return null;
 
-        RevCommit lastCommit = getLastCommit(matchingCommits);
+        int lastCommit = getLastCommit(matchingCommits, commitTable);
 
         return new ReleaseInfo(release, matchingCommits, lastCommit);
 
     }
 
-    private static RevCommit getLastCommit(List<RevCommit> commitsList) {
+    private static int getLastCommit(IntList commitsList, CommitTable commitTable) {
 
-        RevCommit lastCommit = commitsList.get(0);
-        for(RevCommit commit : commitsList) {
+        int lastCommit = commitsList.get(0);
+        for(int i = 0; i < commitsList.size(); i++) {
+            int commit = commitsList.get(i);
             //if commitDate > lastCommitDate then refresh lastCommit
-            if(commit.getCommitterIdent().getWhen().after(lastCommit.getCommitterIdent().getWhen())) {
+            if(commitTable.getCommitTime(commit) > commitTable.getCommitTime(lastCommit)) {
                 lastCommit = commit;
             }
         }
@@ -63,8 +81,42 @@ public class GitUtils {
 
     }
 
-    public static LocalDate castToLocalDate(Date date) {
-        SimpleDateFormat dateFormatter = new SimpleDateFormat("yyyy-MM-dd");
-        return LocalDate.parse(dateFormatter.format(date));
+    /** Count the lines of a blob the same way as splitting its text on "\r\n|\r|\n" would do (trailing empty lines
+     * are not counted, an empty blob has one line), reading the bytes as a stream. Line terminators are single bytes
+     * in UTF-8, so there is no need to decode the content. */
+    public static int countLines(@NotNull ObjectLoader loader) throws IOException {
+        int currentLine = 0;
+        int lastNonEmptyLine = -1;
+        boolean afterCarriageReturn = false;
+        boolean empty = true;
+        byte[] buffer = new byte[8192];
+
+        try(ObjectStream stream = loader.openStream()) {
+            int read;
+            while((read = stream.read(buffer)) != -1) {
+                for(int i = 0; i < read; i++) {
+                    empty = false;
+                    byte b = buffer[i];
+                    if(b == '\r') {
+                        currentLine++;
+                        afterCarriageReturn = true;
+                    } else if(b == '\n') {
+                        if(!afterCarriageReturn) currentLine++; //"\r\n" is a single line terminator
+                        afterCarriageReturn = false;
+                    } else {
+                        lastNonEmptyLine = currentLine;
+                        afterCarriageReturn = false;
+                    }
+                }
+            }
+        }
+
+        if(empty) return 1;
+        return lastNonEmptyLine + 1;
+    }
+
+    /** Day (since 1970-01-01) of a commit time given in seconds, in the system time zone. */
+    public static int toEpochDay(int commitTime) {
+        return (int) LocalDate.ofInstant(Instant.ofEpochSecond(commitTime), ZoneId.systemDefault()).toEpochDay();
     }
 }
\ No newline at end of file
@@ -1,10 +1,10 @@
 package org.example.utils;
 
-import org.eclipse.jgit.revwalk.RevCommit;
 import org.example.models.ChangedJavaClass;
+import org.example.models.CommitChanges;
 import org.example.models.JavaClass;
+import org.example.models.MetricsTable;
 import org.example.models.ReleaseInfo;
-import org.example.models.Version;
 import org.example.retrievers.CommitRetriever;
 import org.example.retrievers.VersionRetriever;
 import org.jetbrains.annotations.NotNull;
@@ -12,7 +12,6 @@ import org.jetbrains.annotations.NotNull;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 
 public class JavaClassUtils {
 
@@ -20,66 +19,51 @@ public class JavaClassUtils {
         throw new IllegalStateException("Utility class");
     }
 
-    public static void updateJavaBuggyness(ChangedJavaClass className, @NotNull List<ReleaseInfo> releaseInfoList, List<Version> affectedReleases) {
-
-        for(ReleaseInfo rc: releaseInfoList) {
-            if(affectedReleases.contains(rc.getRelease())) { //Get the affected release and update the buggyness of the java class
-                List<JavaClass> javaClasses = rc.getJavaClasses(); //Get the java classes of the release
-                findClassAndSetBuggyness(className, javaClasses);
-            }
-        }
-    }
-
-    /**
-     * This method find the modified class into the class of the release, set its buggyness to true and associate the commit to the class.
-    */
-    private static void findClassAndSetBuggyness(ChangedJavaClass className, @NotNull List<JavaClass> javaClasses) {
-        for(JavaClass javaClass: javaClasses) {
-            if(Objects.equals(javaClass.getName(), className.getJavaClassName())) {
-                javaClass.getMetrics().setClassBuggyness(true);
-                return;
-            }
-        }
-    }
-
-    public static void updateNumberOfFixedDefects(VersionRetriever versionRetriever, @NotNull List<RevCommit> commits, List<ReleaseInfo> releaseInfoList, CommitRetriever commitRetriever) throws IOException {
-        for(RevCommit commit: commits){
+    public static void updateNumberOfFixedDefects(VersionRetriever versionRetriever, @NotNull IntList commits, List<ReleaseInfo> releaseInfoList, CommitRetriever commitRetriever) throws IOException {
+        for(int i = 0; i < commits.size(); i++){
+            int commit = commits.get(i);
             List<ChangedJavaClass> classChangedList = commitRetriever.retrieveChanges(commit);
             ReleaseInfo releaseInfo = VersionUtils.retrieveCommitRelease(
                     versionRetriever,
-                    GitUtils.castToLocalDate(commit.getCommitterIdent().getWhen()),
+                    commitRetriever.getCommitTable().getEpochDay(commit),
                     releaseInfoList);
 
             if (releaseInfo != null) {
 
                 for (ChangedJavaClass javaClass : classChangedList) {
-                    updateFixedDefects(releaseInfo, javaClass.getJavaClassName());
+                    updateFixedDefects(releaseInfo, javaClass.getPathId());
                 }
             }
         }
     }
 
-    private static void updateFixedDefects(@NotNull ReleaseInfo releaseInfo, String className) {
-
-        for(JavaClass javaClass: releaseInfo.getJavaClasses()) {
-            if(Objects.equals(javaClass.getName(), className)) {
-                javaClass.getMetrics().updateFixedDefects();
+    private static void updateFixedDefects(@NotNull ReleaseInfo releaseInfo, int pathId) {
 
-                return;
-            }
+        int row = releaseInfo.getJavaClassRow(pathId);
+        if(row != -1) {
+            releaseInfo.getMetricsTable().updateFixedDefects(row);
         }
     }
 
-    public static void updateJavaClassCommits(CommitRetriever commitRetriever, @NotNull List<RevCommit> commits, List<JavaClass> javaClasses) throws IOException {
-
-        for(RevCommit commit: commits) {
-            List<ChangedJavaClass> changedJavaClassList = commitRetriever.retrieveChanges(commit);
-
-            for(ChangedJavaClass changedJavaClass: changedJavaClassList) {
-                for(JavaClass javaClass: javaClasses) {
-                    if (Objects.equals(changedJavaClass.getJavaClassName(), javaClass.getName())) {
-                        javaClass.addCommit(commit);
-                        break;
+    /** Associate each commit of the release with the classes it touched, accumulating in the metrics table of the
+     * release the lines added and deleted by the commits that were diffed against their parent. */
+    public static void updateJavaClassCommits(CommitRetriever commitRetriever, @NotNull ReleaseInfo releaseInfo) throws IOException {
+
+        MetricsTable metricsTable = releaseInfo.getMetricsTable();
+        IntList commits = releaseInfo.getCommits();
+        for(int i = 0; i < commits.size(); i++) {
+            int commit = commits.get(i);
+            CommitChanges commitChanges = commitRetriever.retrieveCommitChanges(commit);
+
+            for(ChangedJavaClass changedJavaClass: commitChanges.getChangedJavaClasses()) {
+                int row = releaseInfo.getJavaClassRow(changedJavaClass.getPathId());
+                if (row != -1) {
+                    releaseInfo.getJavaClasses().get(row).addCommit(commit);
+                    metricsTable.addCommit(row);
+
+                    ChangedJavaClass diffedJavaClass = commitChanges.getDiffedJavaClass(changedJavaClass.getJavaClassName());
+                    if(diffedJavaClass != null) {
+                        metricsTable.addRevision(row, diffedJavaClass.getAddedLines(), diffedJavaClass.getDeletedLines());
                     }
                 }
             }
@@ -91,7 +75,8 @@ public class JavaClassUtils {
 
         for(JavaClass javaClass: javaClasses) {
             changedJavaClassList.add(new ChangedJavaClass(
-                    javaClass.getName()
+                    javaClass.getName(),
+                    javaClass.getPathId()
             ));
         }
 
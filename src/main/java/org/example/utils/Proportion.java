@@ -3,33 +3,69 @@ package org.example.utils;
 import org.eclipse.jgit.api.errors.GitAPIException;
 import org.example.enums.ProjectEnums;
 import org.example.models.Ticket;
+import org.example.retrievers.TicketRetriever;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class Proportion {
     private static double coldStartProportionValue = -1;
 
     private Proportion() {}
 
-    public static double computeColdStartProportionValue() throws GitAPIException, IOException, URISyntaxException {
+    /** The median of the proportion values of the cold start projects. The projects are fetched concurrently, and each
+     * value is taken from its ColdStartCache when the ticket snapshot of the project did not change. */
+    public static synchronized double computeColdStartProportionValue() throws GitAPIException, IOException, URISyntaxException {
         if(coldStartProportionValue != -1) return coldStartProportionValue;
 
         List<Double> proportionValueList = new ArrayList<>();
 
-        for(ProjectEnums proj: ProjectEnums.values()) {
-            double p = computeProportionValue(ColdStart.getTicketForColdStart(proj));
-            if(p != 0)
-                proportionValueList.add(p);
+        ProjectEnums[] projects = ProjectEnums.values();
+        ExecutorService executor = Executors.newFixedThreadPool(projects.length);
+        try {
+            List<Future<Double>> futures = new ArrayList<>();
+            for(ProjectEnums proj: projects) {
+                futures.add(executor.submit(() -> computeProjectProportionValue(proj)));
+            }
+            for(Future<Double> future: futures) {
+                double p = future.get();
+                if(p != 0)
+                    proportionValueList.add(p);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while computing the cold start proportion", e);
+        } catch (ExecutionException e) {
+            if(e.getCause() instanceof GitAPIException gitAPIException) throw gitAPIException;
+            if(e.getCause() instanceof URISyntaxException uriSyntaxException) throw uriSyntaxException;
+            throw new IOException("Failed to compute the cold start proportion", e.getCause());
+        } finally {
+            executor.shutdownNow();
         }
 
         coldStartProportionValue = computeMedian(proportionValueList);
         return coldStartProportionValue;
     }
 
+    /** The proportion value of a cold start project, recomputed from its tickets only when its snapshot changed. */
+    private static double computeProjectProportionValue(@NotNull ProjectEnums proj) throws GitAPIException, IOException, URISyntaxException {
+        String fingerprint = TicketRetriever.retrieveBugTicketsFingerprint(proj.toString());
+        ColdStartCache cache = new ColdStartCache(proj.toString());
+        Double cached = cache.load(fingerprint);
+        if(cached != null) return cached;
+
+        double p = computeProportionValue(ColdStart.getTicketForColdStart(proj));
+        cache.save(fingerprint, p);
+        return p;
+    }
+
     private static double computeMedian(@NotNull List<Double> proportionValueList) {
         proportionValueList.sort(Double::compareTo);
         if(proportionValueList.size()%2 != 0) {
@@ -50,17 +86,8 @@ public class Proportion {
             //P = (FV-IV)/(FV-OV)
             if(ticket.getInjectedRelease() == null && ticket.getOpeningRelease() == null && ticket.getFixedRelease() == null)
                 continue; //Ignore the ticket that are inconsistent.
-            int iv = ticket.getInjectedRelease().getIndex();
-            int ov = ticket.getOpeningRelease().getIndex();
-            int fv = ticket.getFixedRelease().getIndex();
             if(isAValidTicketForProportion(ticket)) {
-                double prop;
-                if(fv == ov) {
-                    prop = (1.0) * (fv - iv);
-                } else {
-                    prop = (1.0) * (fv - iv) / (fv - ov);
-                }
-                proportionSum = proportionSum + prop;
+                proportionSum = proportionSum + computeTicketProportion(ticket);
                 validatedCount++;
             }
         }
@@ -70,6 +97,17 @@ public class Proportion {
         return proportionSum/validatedCount;
     }
 
+    /** P = (FV-IV)/(FV-OV) of a ticket valid for proportion; when FV = OV the denominator is taken as 1. */
+    public static double computeTicketProportion(@NotNull Ticket ticket) {
+        int iv = ticket.getInjectedRelease().getIndex();
+        int ov = ticket.getOpeningRelease().getIndex();
+        int fv = ticket.getFixedRelease().getIndex();
+        if(fv == ov) {
+            return (1.0) * (fv - iv);
+        }
+        return (1.0) * (fv - iv) / (fv - ov);
+    }
+
     public static boolean isAValidTicketForProportion(@NotNull Ticket ticket) {
         if(ticket.getInjectedRelease() == null || ticket.getOpeningRelease() == null || ticket.getFixedRelease() == null) return false;
 
@@ -0,0 +1,91 @@
+package org.example.utils;
+
+import org.example.enums.ProportionStrategyEnum;
+import org.example.models.Ticket;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.PriorityQueue;
+
+/** With this class we estimate the proportion P = (FV-IV)/(FV-OV) while the tickets arrive in order of resolution, each
+ * ticket updating the estimate in O(1) (O(log n) for the median) instead of recomputing it over all the tickets seen:
+ * INCREMENTAL is the mean over all the tickets, MOVING_WINDOW the mean over the last windowSize tickets, MEDIAN the
+ * median over all the tickets. Several estimators can be fed with the same tickets to compare the strategies in one pass. */
+public class ProportionEstimator {
+    public static final int DEFAULT_WINDOW_SIZE = 10;
+
+    private final ProportionStrategyEnum strategy;
+    private final int windowSize;
+    private int count = 0;
+    private double proportionSum = 0;
+    private final Deque<Double> window = new ArrayDeque<>();
+    /** Lower half of the proportions (max on top) and upper half (min on top); the lower half may hold one more. */
+    private final PriorityQueue<Double> lowerHalf = new PriorityQueue<>(Collections.reverseOrder());
+    private final PriorityQueue<Double> upperHalf = new PriorityQueue<>();
+
+    public ProportionEstimator(@NotNull ProportionStrategyEnum strategy) {
+        this(strategy, DEFAULT_WINDOW_SIZE);
+    }
+
+    public ProportionEstimator(@NotNull ProportionStrategyEnum strategy, int windowSize) {
+        if(windowSize < 1) throw new IllegalArgumentException("The window must hold at least one ticket");
+
+        this.strategy = strategy;
+        this.windowSize = windowSize;
+    }
+
+    /** Add the proportion of the ticket to the estimate; tickets that are not valid for proportion are ignored. */
+    public void add(@NotNull Ticket ticket) {
+        if(!Proportion.isAValidTicketForProportion(ticket)) return;
+
+        double prop = Proportion.computeTicketProportion(ticket);
+        count++;
+        switch (strategy) {
+            case INCREMENTAL -> proportionSum = proportionSum + prop;
+            case MOVING_WINDOW -> {
+                window.addLast(prop);
+                proportionSum = proportionSum + prop;
+                if(window.size() > windowSize) {
+                    proportionSum = proportionSum - window.removeFirst();
+                }
+            }
+            case MEDIAN -> addToHalves(prop);
+        }
+    }
+
+    private void addToHalves(double prop) {
+        if(lowerHalf.isEmpty() || prop <= lowerHalf.peek()) {
+            lowerHalf.add(prop);
+        } else {
+            upperHalf.add(prop);
+        }
+
+        if(lowerHalf.size() > upperHalf.size() + 1) {
+            upperHalf.add(lowerHalf.poll());
+        } else if(upperHalf.size() > lowerHalf.size()) {
+            lowerHalf.add(upperHalf.poll());
+        }
+    }
+
+    public ProportionStrategyEnum getStrategy() {
+        return strategy;
+    }
+
+    /** Number of valid tickets added so far. */
+    public int size() {
+        return count;
+    }
+
+    /** The current estimate of the proportion, 0 if no valid ticket was added. */
+    public double estimate() {
+        if(count == 0) return 0;
+
+        return switch (strategy) {
+            case INCREMENTAL -> proportionSum/count;
+            case MOVING_WINDOW -> proportionSum/window.size();
+            case MEDIAN -> lowerHalf.size() > upperHalf.size() ? lowerHalf.peek() : (lowerHalf.peek() + upperHalf.peek())/2;
+        };
+    }
+}
@@ -1,11 +1,42 @@
 package org.example.utils;
 
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public class RegularExpression {
     private RegularExpression(){}
-    public static boolean matchRegex(String stringToMatch, String commitKey) {
-        Pattern pattern = Pattern.compile(commitKey + "\\b");
-        return pattern.matcher(stringToMatch).find();
+
+    /** A whole word followed by "-NUMBER" and a word boundary: every PROJECT-NUMBER key is a suffix of one of them. */
+    private static final Pattern TICKET_REFERENCE = Pattern.compile("(?<![A-Za-z0-9_])[A-Za-z0-9_]+-\\d+\\b");
+
+    /** Extract the ticket references (WORD-NUMBER) of the string, so that the message itself does not need to be kept
+     * until the project keys of the tickets are known. */
+    public static String @NotNull [] extractTicketReferences(@NotNull String stringToMatch) {
+        List<String> references = new ArrayList<>();
+        Matcher matcher = TICKET_REFERENCE.matcher(stringToMatch);
+        while(matcher.find()) {
+            references.add(matcher.group());
+        }
+        return references.toArray(new String[0]);
+    }
+
+    /** Add to keys the ticket keys of the given projects found in the reference: PROJECT-NUMBER matches wherever PROJECT
+     * is a suffix of the word of the reference, as it would do searching PROJECT-NUMBER followed by a word boundary in the
+     * original string. */
+    public static void addTicketKeys(@NotNull String reference, @NotNull Set<String> projectKeys, @NotNull Set<String> keys) {
+        int dash = reference.indexOf('-');
+        String word = reference.substring(0, dash);
+        String number = reference.substring(dash);
+        for(int start = 0; start < word.length(); start++) {
+            String projectKey = word.substring(start);
+            if(projectKeys.contains(projectKey)) {
+                keys.add(projectKey + number);
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,8 @@
 package org.example.utils;
 
 import org.example.models.ReleaseInfo;
+import org.example.models.ReleaseTimeline;
+import org.example.models.Ticket;
 import org.example.models.Version;
 import org.example.retrievers.VersionRetriever;
 import org.jetbrains.annotations.NotNull;
@@ -11,22 +13,27 @@ import java.util.List;
 
 public class VersionUtils {
     private VersionUtils() {}
-    public static @Nullable Version retrieveNextRelease(VersionRetriever versionRetriever, LocalDate date) {
-        for(Version version : versionRetriever.getProjVersions()) {
-            LocalDate releaseDate = version.getDate();
-            if(!releaseDate.isBefore(date)) {
-                return version;
-            }
-        }
-        return null;
+    public static @Nullable Version retrieveNextRelease(VersionRetriever versionRetriever, @NotNull LocalDate date) {
+        return retrieveNextRelease(versionRetriever, date.toEpochDay());
     }
-    public static @Nullable ReleaseInfo retrieveCommitRelease(VersionRetriever versionRetriever, LocalDate date, @NotNull List<ReleaseInfo> rcList) {
-        Version version = retrieveNextRelease(versionRetriever, date);
 
-        for(ReleaseInfo rc: rcList) {
-            if(rc.getRelease() == version) return rc;
-        }
+    public static @Nullable Version retrieveNextRelease(@NotNull VersionRetriever versionRetriever, long epochDay) {
+        return versionRetriever.getReleaseTimeline().nextRelease(epochDay);
+    }
+
+    /** Positions [from, to) in the release info list of the releases that are affected versions of the ticket, null if
+     * none of them is. The release info list must be sorted by release index. */
+    public static int @Nullable [] retrieveAffectedRange(@NotNull Ticket ticket, @NotNull List<ReleaseInfo> rcList) {
+        if(ticket.getAffectedFromOrder() == -1) return null;
+
+        int[] range = ReleaseTimeline.findReleaseRange(rcList, ticket.getAffectedFromOrder(), ticket.getAffectedToOrder());
+        return range[0] < range[1] ? range : null;
+    }
+
+    /** The release info list must be sorted by release index, as built by CommitRetriever.getReleaseCommits. */
+    public static @Nullable ReleaseInfo retrieveCommitRelease(VersionRetriever versionRetriever, long epochDay, @NotNull List<ReleaseInfo> rcList) {
+        Version version = retrieveNextRelease(versionRetriever, epochDay);
 
-        return null;
+        return ReleaseTimeline.findReleaseInfo(rcList, version);
     }
 }
\ No newline at end of file